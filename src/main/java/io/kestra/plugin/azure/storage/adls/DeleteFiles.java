@@ -1,12 +1,15 @@
 package io.kestra.plugin.azure.storage.adls;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 
-import com.azure.storage.file.datalake.DataLakeFileClient;
+import com.azure.core.util.Context;
+import com.azure.storage.file.datalake.DataLakeDirectoryClient;
 import com.azure.storage.file.datalake.DataLakeFileSystemClient;
 import com.azure.storage.file.datalake.DataLakeServiceClient;
 
@@ -32,8 +35,6 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.scheduler.Schedulers;
 
-import static io.kestra.core.utils.Rethrow.throwConsumer;
-
 @SuperBuilder
 @ToString
 @EqualsAndHashCode
@@ -78,6 +79,23 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
                     concurrent: 2
                     directoryPath: "adls/pokemon/"
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Clear a whole partition folder with a single server-side recursive delete.",
+            code = """
+                id: azure_storage_datalake_delete_partition
+                namespace: company.team
+
+                tasks:
+                  - id: delete_partition
+                    type: io.kestra.plugin.azure.storage.adls.DeleteFiles
+                    connectionString: "{{ secret('AZURE_CONNECTION_STRING') }}"
+                    fileSystem: "tasks"
+                    endpoint: "https://yourblob.blob.core.windows.net"
+                    directoryPath: "events/date=2024-01-01/"
+                    deleteDirectory: true
+                """
         )
     },
     metrics = {
@@ -105,6 +123,31 @@ public class DeleteFiles extends AbstractDataLakeConnection implements RunnableT
     @PluginProperty(dynamic = false, group = "execution")
     private Integer concurrent;
 
+    @Schema(
+        title = "Whether to delete the files of the sub-directories too",
+        description = "Files are listed recursively and deleted one by one; directories themselves are kept."
+    )
+    @Builder.Default
+    @PluginProperty(group = "source")
+    private Property<Boolean> recursive = Property.ofValue(false);
+
+    @Schema(
+        title = "Regex filter",
+        description = "Only the files whose full path matches this Java regex are deleted."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> regexp;
+
+    @Schema(
+        title = "Delete the whole directory server-side",
+        description = "Deletes the directory and everything below it with a single recursive delete on a hierarchical namespace, " +
+            "instead of one request per file. The files are still listed, page by page, to report their count and size. " +
+            "Can't be combined with `regexp`, nor used on the root of the file system."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> deleteDirectory = Property.ofValue(false);
+
     @Schema(
         title = "Whether to raise an error if the file is not found"
     )
@@ -119,34 +162,53 @@ public class DeleteFiles extends AbstractDataLakeConnection implements RunnableT
         DataLakeServiceClient client = this.dataLakeServiceClient(runContext);
         DataLakeFileSystemClient fileSystemClient = client.getFileSystemClient(runContext.render(this.fileSystem).as(String.class).orElse(null));
 
-        Flux<AdlsFile> flowable = Flux
-            .create(throwConsumer(emitter ->
-            {
-                DataLakeService
-                    .list(fileSystemClient, runContext.render(directoryPath).as(String.class).orElseThrow())
-                    .forEach(emitter::next);
+        String rDirectoryPath = runContext.render(directoryPath).as(String.class).orElseThrow();
+        boolean rRecursive = runContext.render(recursive).as(Boolean.class).orElse(false);
+        boolean rDeleteDirectory = runContext.render(deleteDirectory).as(Boolean.class).orElse(false);
+        String rRegexp = runContext.render(regexp).as(String.class).orElse(null);
+
+        Pair<Long, Long> finalResult;
 
-                emitter.complete();
-            }), FluxSink.OverflowStrategy.BUFFER);
+        if (rDeleteDirectory) {
+            if (rRegexp != null) {
+                throw new IllegalArgumentException("`regexp` can't be used with `deleteDirectory`, the whole directory is deleted server-side");
+            }
 
-        Flux<Long> result;
+            if (StringUtils.strip(rDirectoryPath, "/").isBlank()) {
+                throw new IllegalArgumentException("`deleteDirectory` can't be used on the root of the file system, `directoryPath` must be a directory");
+            }
 
-        if (this.concurrent != null) {
-            result = flowable
-                .parallel(this.concurrent)
-                .runOn(Schedulers.boundedElastic())
-                .map(delete(logger, fileSystemClient))
-                .sequential();
+            finalResult = deleteDirectory(logger, fileSystemClient, rDirectoryPath);
         } else {
-            result = flowable
-                .map(delete(logger, fileSystemClient));
+            // files are deleted while the next pages are listed, sizes come from the listing
+            Flux<AdlsFile> flowable = Flux
+                .<AdlsFile>create(emitter ->
+                {
+                    DataLakeService.list(fileSystemClient, rDirectoryPath, rRecursive, rRegexp, false, null, null, emitter::next);
+
+                    emitter.complete();
+                }, FluxSink.OverflowStrategy.BUFFER)
+                .filter(file -> !file.isDirectory());
+
+            Flux<Long> result;
+
+            if (this.concurrent != null) {
+                result = flowable
+                    .parallel(this.concurrent)
+                    .runOn(Schedulers.boundedElastic())
+                    .map(delete(logger, fileSystemClient))
+                    .sequential();
+            } else {
+                result = flowable
+                    .map(delete(logger, fileSystemClient));
+            }
+
+            finalResult = result
+                .reduce(Pair.of(0L, 0L), (pair, size) -> Pair.of(pair.getLeft() + 1, pair.getRight() + size))
+                .blockOptional()
+                .orElse(Pair.of(0L, 0L));
         }
 
-        Pair<Long, Long> finalResult = result
-            .reduce(Pair.of(0L, 0L), (pair, size) -> Pair.of(pair.getLeft() + 1, pair.getRight() + size))
-            .blockOptional()
-            .orElse(Pair.of(0L, 0L));
-
         runContext.metric(Counter.of("files.count", finalResult.getLeft()));
         runContext.metric(Counter.of("files.size", finalResult.getRight()));
 
@@ -172,15 +234,37 @@ public class DeleteFiles extends AbstractDataLakeConnection implements RunnableT
         {
             logger.info("Deleting '{}'", o.getName());
 
-            DataLakeFileClient fileClient = fileSystemClient.getFileClient(o.getName());
-            long fileSize = fileClient.getProperties().getFileSize();
+            fileSystemClient.getFileClient(o.getName()).delete();
 
-            fileClient.delete();
-
-            return fileSize;
+            return o.getSize() != null ? o.getSize() : 0L;
         };
     }
 
+    /**
+     * Counts the files of the directory tree from a paged recursive listing, then deletes the whole tree with a
+     * single server-side recursive delete.
+     */
+    private static Pair<Long, Long> deleteDirectory(Logger logger, DataLakeFileSystemClient fileSystemClient, String directoryPath) {
+        AtomicLong count = new AtomicLong();
+        AtomicLong size = new AtomicLong();
+
+        DataLakeService.list(fileSystemClient, directoryPath, true, null, false, null, null, file ->
+        {
+            if (!file.isDirectory()) {
+                count.incrementAndGet();
+                size.addAndGet(file.getSize() != null ? file.getSize() : 0L);
+            }
+        });
+
+        DataLakeDirectoryClient directoryClient = fileSystemClient.getDirectoryClient(StringUtils.stripEnd(directoryPath, "/"));
+        if (directoryClient.exists()) {
+            logger.info("Deleting directory '{}' recursively", directoryClient.getDirectoryPath());
+            directoryClient.deleteRecursivelyWithResponse(null, null, Context.NONE);
+        }
+
+        return Pair.of(count.get(), size.get());
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
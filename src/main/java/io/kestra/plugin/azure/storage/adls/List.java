@@ -1,13 +1,25 @@
 package io.kestra.plugin.azure.storage.adls;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
 import com.azure.storage.file.datalake.DataLakeFileSystemClient;
 import com.azure.storage.file.datalake.DataLakeServiceClient;
 
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
 import io.kestra.plugin.azure.storage.adls.abstracts.AbstractDataLakeConnection;
 import io.kestra.plugin.azure.storage.adls.abstracts.AbstractDataLakeStorageInterface;
 import io.kestra.plugin.azure.storage.adls.models.AdlsFile;
@@ -19,6 +31,8 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import io.kestra.core.models.annotations.PluginProperty;
 
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+
 @SuperBuilder
 @ToString
 @EqualsAndHashCode
@@ -50,12 +64,43 @@ import io.kestra.core.models.annotations.PluginProperty;
                         level: DEBUG
                         format: "{{ taskrun.value }}"
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Recursively list the CSV files of a very large directory into an internal storage file, 100,000 files at a time.",
+            code = """
+                id: azure_data_lake_storage_list_store
+                namespace: company.team
+
+                inputs:
+                  - id: continuationToken
+                    type: STRING
+                    required: false
+
+                tasks:
+                  - id: list
+                    type: io.kestra.plugin.azure.storage.adls.List
+                    connectionString: "{{ secret('AZURE_CONNECTION_STRING') }}"
+                    fileSystem: "tasks"
+                    endpoint: "https://yourblob.blob.core.windows.net"
+                    directoryPath: "path/to/my/directory/"
+                    recursive: true
+                    regexp: '.*\\.csv'
+                    maxFiles: 100000
+                    fetchType: STORE
+                    continuationToken: "{{ inputs.continuationToken }}"
+                """
         )
+    },
+    metrics = {
+        @Metric(name = "files.count", type = Counter.TYPE, description = "The total number of files listed.")
     }
 )
 @Schema(
-    title = "Upload a file to Azure Data Lake Storage",
-    description = "Upload a file to Azure Data Lake Storage using the Azure SDK."
+    title = "List files in Azure Data Lake Storage",
+    description = "List the files and directories of an Azure Data Lake Storage directory using the Azure SDK. " +
+        "Pages are fetched one at a time and the listing stops as soon as `maxFiles` files are found; " +
+        "the returned `continuationToken` can be passed back to resume the listing."
 )
 public class List extends AbstractDataLakeConnection implements RunnableTask<List.Output>, AbstractDataLakeStorageInterface {
     @Schema(title = "Directory path", description = "Full path to the directory")
@@ -74,29 +119,104 @@ public class List extends AbstractDataLakeConnection implements RunnableTask<Lis
     @PluginProperty(group = "processing")
     private Property<Integer> maxFiles = Property.ofValue(25);
 
+    @Schema(
+        title = "Whether to list the sub-directories recursively"
+    )
+    @Builder.Default
+    @PluginProperty(group = "source")
+    private Property<Boolean> recursive = Property.ofValue(false);
+
+    @Schema(
+        title = "Regex filter",
+        description = "Java regex the full path of a file must match to be returned."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> regexp;
+
+    @Schema(
+        title = "Fetch the full properties of each file",
+        description = "By default, files are built from the listing only, without content headers, lease, archive and access control information. " +
+            "Enabling it costs one additional request per file."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> fetchProperties = Property.ofValue(false);
+
+    @Schema(
+        title = "Continuation token to resume a previous listing",
+        description = "The `continuationToken` output of a previous run with the same file system, directory path and recursive option."
+    )
+    @PluginProperty(group = "source")
+    private Property<String> continuationToken;
+
+    @Schema(
+        title = "How to return the listed files",
+        description = "`FETCH` returns the files in the `files` output, `STORE` writes them to an Ion file in the internal storage, " +
+            "which is recommended for large listings."
+    )
+    @Builder.Default
+    @PluginProperty(group = "destination")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.FETCH);
+
     @Override
     public List.Output run(RunContext runContext) throws Exception {
         DataLakeServiceClient dataLakeServiceClient = this.dataLakeServiceClient(runContext);
         DataLakeFileSystemClient fileSystemClient = dataLakeServiceClient.getFileSystemClient(runContext.render(fileSystem).as(String.class).orElseThrow());
 
-        java.util.List<AdlsFile> fileList = DataLakeService.list(fileSystemClient, runContext.render(directoryPath).as(String.class).orElseThrow());
-
+        String rDirectoryPath = runContext.render(directoryPath).as(String.class).orElseThrow();
+        boolean rRecursive = runContext.render(recursive).as(Boolean.class).orElse(false);
+        String rRegexp = runContext.render(regexp).as(String.class).orElse(null);
+        boolean rFetchProperties = runContext.render(fetchProperties).as(Boolean.class).orElse(false);
+        String rContinuationToken = runContext.render(continuationToken).as(String.class).orElse(null);
         Integer rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
+        FetchType rFetchType = runContext.render(this.fetchType).as(FetchType.class).orElse(FetchType.FETCH);
+
+        Output.OutputBuilder<?, ?> output = Output.builder();
+        long count;
+        String nextToken;
+
+        if (rFetchType == FetchType.STORE) {
+            File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+            AtomicLong written = new AtomicLong();
+
+            try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
+                nextToken = DataLakeService.list(
+                    fileSystemClient, rDirectoryPath, rRecursive, rRegexp, rFetchProperties, rContinuationToken, rMaxFiles,
+                    throwConsumer(file ->
+                    {
+                        FileSerde.write(outputStream, file);
+                        written.incrementAndGet();
+                    })
+                );
+            }
+
+            count = written.get();
+            output.uri(runContext.storage().putFile(tempFile));
+        } else if (rFetchType == FetchType.FETCH) {
+            java.util.List<AdlsFile> fileList = new ArrayList<>();
+            nextToken = DataLakeService.list(
+                fileSystemClient, rDirectoryPath, rRecursive, rRegexp, rFetchProperties, rContinuationToken, rMaxFiles, fileList::add
+            );
+
+            count = fileList.size();
+            output.files(fileList);
+        } else {
+            throw new IllegalArgumentException("Unsupported fetchType '" + rFetchType + "', only FETCH and STORE are supported");
+        }
+
+        runContext.metric(Counter.of("files.count", count));
 
-        if (fileList.size() > rMaxFiles) {
+        if (nextToken != null) {
             runContext.logger().warn(
-                "Listing returned {} files but maxFiles limit is {}. "
-                    + "Only the first {} files will be returned. "
-                    + "Increase the maxFiles property if you need more files.",
-                fileList.size(),
-                rMaxFiles,
+                "Listing was limited to {} files by maxFiles property. "
+                    + "Increase the maxFiles property or use the continuationToken output to list the next files.",
                 rMaxFiles
             );
-            fileList = fileList.subList(0, rMaxFiles);
         }
 
-        return Output.builder()
-            .files(fileList)
+        return output
+            .count(count)
+            .continuationToken(nextToken)
             .build();
     }
 
@@ -104,8 +224,26 @@ public class List extends AbstractDataLakeConnection implements RunnableTask<Lis
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
         @Schema(
-            title = "The list of file"
+            title = "The list of file",
+            description = "Only set when `fetchType` is `FETCH`."
         )
         private final java.util.List<AdlsFile> files;
+
+        @Schema(
+            title = "The number of files listed"
+        )
+        private final long count;
+
+        @Schema(
+            title = "URI of the Ion file containing the listed files",
+            description = "Only set when `fetchType` is `STORE`."
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Continuation token of the next page",
+            description = "Set when the listing stopped at `maxFiles` before the end; pass it as `continuationToken` to resume the listing."
+        )
+        private final String continuationToken;
     }
 }
@@ -60,6 +60,8 @@ public class Read extends AbstractDataLakeWithFile implements RunnableTask<Read.
 
     private Property<Boolean> failOnMissingChecksum;
 
+    private Property<Boolean> validateChecksumPerBlock;
+
     private Property<String> expectedChecksum;
 
     private Property<ChecksumValidator.Algorithm> checksumAlgorithm;
@@ -68,7 +70,7 @@ public class Read extends AbstractDataLakeWithFile implements RunnableTask<Read.
     public Output run(RunContext runContext) throws Exception {
         DataLakeFileClient client = this.dataLakeFileClient(runContext);
         ChecksumValidator.Options checksumOptions = ChecksumValidator.resolve(
-            runContext, validateChecksum, failOnMissingChecksum, expectedChecksum, checksumAlgorithm
+            runContext, validateChecksum, failOnMissingChecksum, expectedChecksum, checksumAlgorithm, validateChecksumPerBlock
         );
         URI readFileUri = DataLakeService.read(runContext, client, checksumOptions);
 
@@ -1,16 +1,25 @@
 package io.kestra.plugin.azure.storage.adls;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.azure.storage.common.ParallelTransferOptions;
 import com.azure.storage.file.datalake.DataLakeFileClient;
 import com.azure.storage.file.datalake.DataLakeFileSystemClient;
 import com.azure.storage.file.datalake.DataLakeServiceClient;
+import com.azure.storage.file.datalake.models.PathProperties;
 
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
@@ -22,13 +31,17 @@ import io.kestra.plugin.azure.storage.services.ChecksumValidatedInterface;
 import io.kestra.plugin.azure.storage.services.ChecksumValidator;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
-
-import static io.kestra.core.utils.Rethrow.throwFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import io.kestra.core.models.annotations.PluginProperty;
 
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+
 @SuperBuilder
 @ToString
 @EqualsAndHashCode
@@ -50,7 +63,31 @@ import io.kestra.core.models.annotations.PluginProperty;
                     endpoint: "https://yourblob.blob.core.windows.net"
                     directoryPath: "path/to/my/directory/"
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Read a directory of many small files, 16 files at a time.",
+            code = """
+                id: azure_storage_datalake_reads_parallel
+                namespace: company.team
+
+                tasks:
+                  - id: read_files
+                    type: io.kestra.plugin.azure.storage.adls.Reads
+                    connectionString: "{{ secret('AZURE_CONNECTION_STRING') }}"
+                    fileSystem: "tasks"
+                    endpoint: "https://yourblob.blob.core.windows.net"
+                    directoryPath: "path/to/my/parquet/"
+                    maxFiles: 1000
+                    concurrency: 16
+                """
         )
+    },
+    metrics = {
+        @Metric(name = "files.count", type = Counter.TYPE, description = "The number of files read."),
+        @Metric(name = "files.size", type = Counter.TYPE, description = "The total size of the files read, in bytes."),
+        @Metric(name = "files.duration", type = Timer.TYPE, description = "The time spent reading all the files."),
+        @Metric(name = "files.throughput", type = Counter.TYPE, description = "The aggregate read throughput, in bytes per second.")
     }
 )
 @Schema(
@@ -78,6 +115,30 @@ public class Reads extends AbstractDataLakeConnection implements RunnableTask<Re
 
     private Property<Boolean> failOnMissingChecksum;
 
+    private Property<Boolean> validateChecksumPerBlock;
+
+    @Min(1)
+    @Schema(
+        title = "Number of files read in parallel"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(1);
+
+    @Schema(
+        title = "Block size (bytes)",
+        description = "Size of each ranged request used to read a single file; defaults to the Azure SDK value"
+    )
+    @PluginProperty(group = "execution")
+    private Property<Long> blockSize;
+
+    @Schema(
+        title = "Maximum parallel ranged reads per file",
+        description = "Number of ranges of the same file read in parallel; defaults to the Azure SDK value"
+    )
+    @PluginProperty(group = "execution")
+    private Property<Integer> maxConcurrency;
+
     @Override
     public Reads.Output run(RunContext runContext) throws Exception {
         List task = List.builder()
@@ -98,21 +159,56 @@ public class Reads extends AbstractDataLakeConnection implements RunnableTask<Re
         DataLakeFileSystemClient fileSystemClient = client.getFileSystemClient(runContext.render(this.fileSystem).as(String.class).orElseThrow());
 
         ChecksumValidator.Options checksumOptions = ChecksumValidator.resolve(
-            runContext, validateChecksum, failOnMissingChecksum, null, null
+            runContext, validateChecksum, failOnMissingChecksum, null, null, validateChecksumPerBlock
         );
 
-        java.util.List<AdlsFile> list = run
-            .getFiles()
-            .stream()
-            .map(throwFunction(object ->
-            {
-                DataLakeFileClient fileClient = fileSystemClient.getFileClient(object.getName());
-                URI readFileUri = DataLakeService.read(runContext, fileClient, checksumOptions);
+        ParallelTransferOptions transferOptions = new ParallelTransferOptions()
+            .setBlockSizeLong(runContext.render(this.blockSize).as(Long.class).orElse(null))
+            .setMaxConcurrency(runContext.render(this.maxConcurrency).as(Integer.class).orElse(null));
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(1);
 
-                return AdlsFile.of(fileClient)
-                    .withUri(readFileUri);
-            }))
-            .toList();
+        long start = System.nanoTime();
+
+        java.util.List<AdlsFile> list = new ArrayList<>();
+
+        if (checksumOptions.isPerBlock()) {
+            // per-block validation already reads the ranges of each file in parallel
+            for (AdlsFile object : run.getFiles()) {
+                DataLakeFileClient fileClient = fileSystemClient.getFileClient(object.getName());
+                PathProperties properties = fileClient.getProperties();
+
+                list.add(AdlsFile.of(fileClient, properties).withUri(DataLakeService.readPerBlock(runContext, fileClient, properties, checksumOptions)));
+            }
+        } else {
+            // files are downloaded in parallel while this thread stores them in the listing order, so the internal
+            // storage and the metrics are never used from the workers
+            Flux.fromIterable(run.getFiles())
+                .flatMapSequential(
+                    object -> Mono
+                        .fromCallable(() ->
+                        {
+                            DataLakeFileClient fileClient = fileSystemClient.getFileClient(object.getName());
+                            DataLakeService.Download download = DataLakeService.download(runContext, fileClient, checksumOptions, transferOptions);
+
+                            // the file is built from the properties returned by the read, without another request
+                            return Pair.of(AdlsFile.of(fileClient, download.properties()), download);
+                        })
+                        .subscribeOn(Schedulers.boundedElastic()),
+                    rConcurrency
+                )
+                .toIterable()
+                .forEach(throwConsumer(read -> list.add(read.getLeft().withUri(DataLakeService.store(runContext, read.getRight(), checksumOptions)))));
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        long bytes = list.stream().mapToLong(file -> file.getSize() != null ? file.getSize() : 0L).sum();
+
+        runContext.metric(Counter.of("files.count", list.size()));
+        runContext.metric(Counter.of("files.size", bytes));
+        runContext.metric(Timer.of("files.duration", duration));
+        if (!duration.isZero()) {
+            runContext.metric(Counter.of("files.throughput", bytes * 1_000_000_000d / duration.toNanos()));
+        }
 
         Map<String, URI> outputFiles = list.stream()
             .filter(file -> !file.getName().endsWith("/"))
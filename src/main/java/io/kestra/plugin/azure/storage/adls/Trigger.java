@@ -2,11 +2,20 @@ package io.kestra.plugin.azure.storage.adls;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
 
 import com.azure.storage.file.datalake.DataLakeFileClient;
+import com.azure.storage.file.datalake.DataLakeFileSystemClient;
 import com.azure.storage.file.datalake.DataLakeServiceClient;
+import com.azure.storage.file.datalake.models.DataLakeStorageException;
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
 
 import io.kestra.core.models.annotations.Example;
@@ -21,14 +30,18 @@ import io.kestra.plugin.azure.shared.AbstractConnectionInterface;
 import io.kestra.plugin.azure.shared.AzureClientWithSasInterface;
 import io.kestra.plugin.azure.storage.adls.models.AdlsFile;
 import io.kestra.plugin.azure.storage.adls.services.DataLakeService;
+import io.kestra.plugin.azure.storage.services.DatePartitions;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import static io.kestra.core.models.triggers.StatefulTriggerService.*;
-import static io.kestra.core.utils.Rethrow.throwFunction;
 
 @SuperBuilder
 @ToString
@@ -71,12 +84,48 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
                     fileSystem: myFileSystem
                     directoryPath: yourDirectory/subdirectory
                 """
+        ),
+        @Example(
+            title = "Watch a directory where files land in daily partitions, only listing the partitions since the last processed file, and move them once processed.",
+            full = true,
+            code = """
+                id: react_to_new_files
+                namespace: company.team
+
+                tasks:
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.files | jq('.[].name') }}"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.azure.storage.adls.Trigger
+                    interval: PT1M
+                    endpoint: "https://yourblob.blob.core.windows.net"
+                    connectionString: "{{ secret('AZURE_CONNECTION_STRING') }}"
+                    fileSystem: myFileSystem
+                    directoryPath: landing
+                    mode: WATERMARK
+                    partitionFormat: "yyyy/MM/dd"
+                    maxFiles: 500
+                    concurrency: 16
+                    action: MOVE
+                    moveTo:
+                      fileSystem: myFileSystem
+                      directoryPath: archive
+                """
         )
     }
 )
 public class Trigger extends AbstractTrigger
     implements PollingTriggerInterface, TriggerOutput<Trigger.Output>, AbstractConnectionInterface, AzureClientWithSasInterface, StatefulTriggerInterface {
 
+    private static final String WATERMARK_KEY = "$watermark";
+
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(5);
+
+    private static final Duration PARTITION_INITIAL_LOOKBACK = Duration.ofDays(1);
+
     @Builder.Default
     private final Duration interval = Duration.ofSeconds(60);
 
@@ -128,6 +177,44 @@ public class Trigger extends AbstractTrigger
 
     private Property<Duration> stateTtl;
 
+    @Schema(
+        title = "Whether to watch the sub-directories of `directoryPath` too"
+    )
+    @Builder.Default
+    @PluginProperty(group = "source")
+    private Property<Boolean> recursive = Property.ofValue(false);
+
+    @Schema(
+        title = "How new files are detected",
+        description = "`FULL` checks each listed file against the trigger state, up to `maxFiles` files. " +
+            "`WATERMARK` only fires files modified after the most recent file already processed (minus a 5 minutes overlap), " +
+            "from the oldest to the newest up to `maxFiles`, and only keeps those recent files in the trigger state. " +
+            "Combined with `partitionFormat`, only the date partitions since the watermark are listed, " +
+            "so each poll costs about the number of new files instead of the directory size. " +
+            "Without `partitionFormat`, `WATERMARK` still lists the whole `directoryPath` on every poll and only saves on the trigger state."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Mode> mode = Property.ofValue(Mode.FULL);
+
+    @Schema(
+        title = "Date partition directories under `directoryPath` in `WATERMARK` mode",
+        description = "A date-time pattern such as `yyyy/MM/dd`, `yyyy/MM/dd/HH` or `yyyy/MM/dd/HH/mm`, formatted in UTC and appended to `directoryPath`. " +
+            "Every partition directory between the watermark and now is listed, stepping by the smallest field of the pattern, " +
+            "and partitions that don't exist yet are skipped; on the first poll, partitions of the last day are listed. " +
+            "Patterns finer than a minute are rejected."
+    )
+    @PluginProperty(group = "source")
+    private Property<String> partitionFormat;
+
+    @Min(1)
+    @Schema(
+        title = "Number of files downloaded, moved or deleted in parallel"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(8);
+
     @Override
     public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
         RunContext runContext = conditionContext.getRunContext();
@@ -135,67 +222,11 @@ public class Trigger extends AbstractTrigger
         var rOn = runContext.render(on).as(On.class).orElse(On.CREATE_OR_UPDATE);
         var rStateKey = runContext.render(stateKey).as(String.class).orElse(StatefulTriggerService.defaultKey(context.getNamespace(), context.getFlowId(), id));
         var rStateTtl = runContext.render(stateTtl).as(Duration.class);
-
-        List task = List.builder()
-            .id(this.id)
-            .type(List.class.getName())
-            .endpoint(this.endpoint)
-            .connectionString(this.connectionString)
-            .sharedKeyAccountName(this.sharedKeyAccountName)
-            .sharedKeyAccountAccessKey(this.sharedKeyAccountAccessKey)
-            .sasToken(this.sasToken)
-            .fileSystem(this.fileSystem)
-            .directoryPath(this.directoryPath)
-            .maxFiles(this.maxFiles)
-            .build();
-
-        List.Output run = task.run(runContext);
-
-        if (run.getFiles().isEmpty()) {
-            return Optional.empty();
-        }
-
-        var state = readState(runContext, rStateKey, rStateTtl);
-
-        var toFire = run.getFiles().stream()
-            .flatMap(throwFunction(file ->
-            {
-                var uri = String.format("adls://%s/%s", runContext.render(fileSystem).as(String.class).orElse(""), file.getName());
-                var modifiedAt = Optional.ofNullable(file.getLastModifed()).orElse(Instant.now());
-                var version = Optional.ofNullable(file.getETag()).orElse(String.valueOf(modifiedAt.toEpochMilli()));
-
-                var candidate = StatefulTriggerService.Entry.candidate(uri, version, modifiedAt);
-
-                var stateChange = computeAndUpdateState(state, candidate, rOn);
-
-                if (stateChange.fire()) {
-                    var changeType = stateChange.isNew() ? ChangeType.CREATE : ChangeType.UPDATE;
-
-                    Read read = Read.builder()
-                        .id(this.id)
-                        .type(Read.class.getName())
-                        .endpoint(this.endpoint)
-                        .connectionString(this.connectionString)
-                        .sharedKeyAccountName(this.sharedKeyAccountName)
-                        .sharedKeyAccountAccessKey(this.sharedKeyAccountAccessKey)
-                        .sasToken(this.sasToken)
-                        .fileSystem(this.fileSystem)
-                        .filePath(Property.ofValue(file.getName()))
-                        .build();
-
-                    Read.Output readOutput = read.run(runContext);
-                    AdlsFile downloadedFile = readOutput.getFile();
-
-                    return Stream.of(
-                        TriggeredFile.builder()
-                            .file(downloadedFile)
-                            .changeType(changeType)
-                            .build()
-                    );
-                }
-                return Stream.empty();
-            }))
-            .toList();
+        var rMode = runContext.render(mode).as(Mode.class).orElse(Mode.FULL);
+        var rFileSystem = runContext.render(fileSystem).as(String.class).orElseThrow();
+        var rDirectoryPath = runContext.render(directoryPath).as(String.class).orElse(null);
+        var rRecursive = runContext.render(recursive).as(Boolean.class).orElse(false);
+        var rConcurrency = runContext.render(concurrency).as(Integer.class).orElse(8);
 
         DataLakeServiceClient client = DataLakeService.client(
             runContext.render(endpoint).as(String.class).orElse(null),
@@ -205,44 +236,126 @@ public class Trigger extends AbstractTrigger
             runContext.render(sasToken).as(String.class).orElse(null),
             runContext
         );
+        DataLakeFileSystemClient fileSystemClient = client.getFileSystemClient(rFileSystem);
 
-        //Create the target directory in the target fileSystem for MOVE action
-        if (Action.MOVE.equals(runContext.render(this.action).as(Action.class).orElseThrow())) {
-            final String toDirPath = runContext.render(this.moveTo.getDirectoryPath()).as(String.class).orElseThrow();
-            client.getFileSystemClient(runContext.render(this.moveTo.getFileSystem()).as(String.class).orElseThrow())
-                .createDirectoryIfNotExists(toDirPath);
+        java.util.List<AdlsFile> files = new ArrayList<>();
+        Map<String, StatefulTriggerService.Entry> state = null;
+        Optional<Instant> watermark = Optional.empty();
+        int limit = Integer.MAX_VALUE;
 
-        }
+        if (rMode == Mode.WATERMARK) {
+            state = readState(runContext, rStateKey, rStateTtl);
+            watermark = Optional.ofNullable(state.get(WATERMARK_KEY)).map(StatefulTriggerService.Entry::modifiedAt);
+            Instant since = watermark.map(instant -> instant.minus(WATERMARK_OVERLAP)).orElse(null);
 
-        for (TriggeredFile file : toFire) {
-            var adlsFile = file.getFile();
-
-            switch (runContext.render(this.action).as(Action.class).orElseThrow()) {
-                case DELETE -> {
-                    Delete delete = Delete.builder()
-                        .id(this.id)
-                        .type(Delete.class.getName())
-                        .endpoint(this.endpoint)
-                        .connectionString(this.connectionString)
-                        .sharedKeyAccountName(this.sharedKeyAccountName)
-                        .sharedKeyAccountAccessKey(this.sharedKeyAccountAccessKey)
-                        .sasToken(this.sasToken)
-                        .fileSystem(this.fileSystem)
-                        .filePath(Property.ofValue(adlsFile.getName()))
-                        .build();
-                    delete.run(runContext);
+            Consumer<AdlsFile> collect = file ->
+            {
+                if (!file.isDirectory() && (since == null || file.getLastModifed() == null || file.getLastModifed().isAfter(since))) {
+                    files.add(file);
                 }
-                case MOVE -> {
-                    DataLakeFileClient fileClient = client.getFileSystemClient(runContext.render(this.fileSystem).as(String.class).orElseThrow())
-                        .getFileClient(adlsFile.getName());
-
-                    fileClient.rename(
-                        runContext.render(this.moveTo.getFileSystem()).as(String.class).orElseThrow(),
-                        runContext.render(this.moveTo.getDirectoryPath() + "/" + fileClient.getFileName())
-                    );
+            };
+
+            Optional<String> rPartitionFormat = runContext.render(this.partitionFormat).as(String.class);
+            if (rPartitionFormat.isPresent()) {
+                Set<String> partitions = DatePartitions.partitions(
+                    rDirectoryPath != null ? StringUtils.appendIfMissing(rDirectoryPath, "/") : "",
+                    rPartitionFormat.get(),
+                    since != null ? since : Instant.now().minus(PARTITION_INITIAL_LOOKBACK),
+                    Instant.now()
+                );
+
+                for (String partition : partitions) {
+                    try {
+                        DataLakeService.list(fileSystemClient, StringUtils.stripEnd(partition, "/"), rRecursive, null, false, null, null, collect);
+                    } catch (DataLakeStorageException e) {
+                        // nothing was written in this partition yet
+                        if (e.getStatusCode() != 404) {
+                            throw e;
+                        }
+                    }
                 }
-                default -> runContext.logger().debug("NONE action is selected for this trigger.");
+            } else {
+                DataLakeService.list(fileSystemClient, rDirectoryPath, rRecursive, null, false, null, null, collect);
             }
+            files.sort(Comparator.comparing(AdlsFile::getLastModifed, Comparator.nullsLast(Comparator.naturalOrder())));
+            limit = runContext.render(this.maxFiles).as(Integer.class).orElse(Integer.MAX_VALUE);
+        } else {
+            DataLakeService.list(
+                fileSystemClient, rDirectoryPath, rRecursive, null, false, null,
+                runContext.render(this.maxFiles).as(Integer.class).orElse(25),
+                file ->
+                {
+                    if (!file.isDirectory()) {
+                        files.add(file);
+                    }
+                }
+            );
+        }
+
+        if (files.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (state == null) {
+            state = readState(runContext, rStateKey, rStateTtl);
+        }
+
+        var actionFiles = new ArrayList<AdlsFile>();
+        var changeTypes = new ArrayList<ChangeType>();
+        Instant newWatermark = watermark.orElse(null);
+
+        for (AdlsFile file : files) {
+            if (actionFiles.size() >= limit) {
+                break;
+            }
+
+            var uri = String.format("adls://%s/%s", rFileSystem, file.getName());
+            var modifiedAt = Optional.ofNullable(file.getLastModifed()).orElse(Instant.now());
+            var version = Optional.ofNullable(file.getETag()).orElse(String.valueOf(modifiedAt.toEpochMilli()));
+
+            var candidate = StatefulTriggerService.Entry.candidate(uri, version, modifiedAt);
+
+            var stateChange = computeAndUpdateState(state, candidate, rOn);
+
+            if (newWatermark == null || modifiedAt.isAfter(newWatermark)) {
+                newWatermark = modifiedAt;
+            }
+
+            if (stateChange.fire()) {
+                actionFiles.add(file);
+                changeTypes.add(stateChange.isNew() ? ChangeType.CREATE : ChangeType.UPDATE);
+            }
+        }
+
+        // only the downloads run on the workers, the run context stores the files and records the metrics on this thread
+        Iterable<DataLakeService.Download> downloads = Flux.fromIterable(actionFiles)
+            .flatMapSequential(
+                file -> Mono
+                    .fromCallable(() -> DataLakeService.download(runContext, fileSystemClient.getFileClient(file.getName()), null, null))
+                    .subscribeOn(Schedulers.boundedElastic()),
+                rConcurrency
+            )
+            .toIterable();
+
+        var toFire = new ArrayList<TriggeredFile>();
+        int index = 0;
+        for (DataLakeService.Download download : downloads) {
+            toFire.add(
+                TriggeredFile.builder()
+                    .file(actionFiles.get(index).withUri(DataLakeService.store(runContext, download, null)))
+                    .changeType(changeTypes.get(index))
+                    .build()
+            );
+            index++;
+        }
+
+        this.archive(runContext, client, fileSystemClient, actionFiles, rConcurrency);
+
+        if (rMode == Mode.WATERMARK && newWatermark != null) {
+            Instant pruneBefore = newWatermark.minus(WATERMARK_OVERLAP);
+
+            state.entrySet().removeIf(entry -> !WATERMARK_KEY.equals(entry.getKey()) && entry.getValue().modifiedAt().isBefore(pruneBefore));
+            state.put(WATERMARK_KEY, StatefulTriggerService.Entry.candidate(WATERMARK_KEY, String.valueOf(newWatermark.toEpochMilli()), newWatermark));
         }
 
         writeState(runContext, rStateKey, state, rStateTtl);
@@ -257,6 +370,53 @@ public class Trigger extends AbstractTrigger
         return Optional.of(execution);
     }
 
+    /**
+     * Applies the {@code action} to the fired files, up to {@code concurrency} files at a time.
+     */
+    private void archive(
+        RunContext runContext,
+        DataLakeServiceClient client,
+        DataLakeFileSystemClient fileSystemClient,
+        java.util.List<AdlsFile> files,
+        int concurrency
+    ) throws Exception {
+        Action rAction = runContext.render(this.action).as(Action.class).orElseThrow();
+
+        if (files.isEmpty() || rAction == Action.NONE) {
+            runContext.logger().debug("NONE action is selected for this trigger.");
+            return;
+        }
+
+        Function<AdlsFile, Object> apply;
+
+        if (rAction == Action.MOVE) {
+            String toFileSystem = runContext.render(this.moveTo.getFileSystem()).as(String.class).orElseThrow();
+            String toDirPath = runContext.render(this.moveTo.getDirectoryPath()).as(String.class).orElseThrow();
+
+            //Create the target directory in the target fileSystem for MOVE action
+            client.getFileSystemClient(toFileSystem)
+                .createDirectoryIfNotExists(toDirPath);
+
+            apply = file ->
+            {
+                DataLakeFileClient fileClient = fileSystemClient.getFileClient(file.getName());
+
+                return fileClient.rename(toFileSystem, toDirPath + "/" + fileClient.getFileName());
+            };
+        } else {
+            apply = file ->
+            {
+                fileSystemClient.getFileClient(file.getName()).delete();
+
+                return file;
+            };
+        }
+
+        Flux.fromIterable(files)
+            .flatMap(file -> Mono.fromCallable(() -> apply.apply(file)).subscribeOn(Schedulers.boundedElastic()), concurrency)
+            .blockLast();
+    }
+
     public enum Action {
         MOVE,
         DELETE,
@@ -301,4 +461,9 @@ public class Trigger extends AbstractTrigger
         UPDATE
     }
 
+    public enum Mode {
+        FULL,
+        WATERMARK
+    }
+
 }
@@ -2,11 +2,10 @@ package io.kestra.plugin.azure.storage.adls;
 
 import java.io.InputStream;
 import java.net.URI;
-import java.security.MessageDigest;
 
-import com.azure.core.util.BinaryData;
+import org.apache.commons.lang3.tuple.Pair;
+
 import com.azure.core.util.Context;
-import com.azure.core.util.FluxUtil;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
@@ -15,9 +14,10 @@ import com.azure.storage.blob.models.BlobRequestConditions;
 import com.azure.storage.blob.options.BlobParallelUploadOptions;
 import com.azure.storage.blob.specialized.BlobLeaseClient;
 import com.azure.storage.blob.specialized.BlobLeaseClientBuilder;
-import com.azure.storage.common.implementation.Constants;
+import com.azure.storage.common.ParallelTransferOptions;
 import com.azure.storage.file.datalake.DataLakeFileClient;
 import com.azure.storage.file.datalake.models.PathHttpHeaders;
+import com.azure.storage.file.datalake.models.PathProperties;
 import com.azure.storage.file.datalake.options.FileParallelUploadOptions;
 
 import io.kestra.core.models.annotations.Example;
@@ -30,6 +30,7 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.azure.storage.adls.abstracts.AbstractDataLakeWithFile;
 import io.kestra.plugin.azure.storage.adls.models.AdlsFile;
+import io.kestra.plugin.azure.storage.adls.services.DataLakeService;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -38,7 +39,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
-import reactor.core.scheduler.Schedulers;
 
 @SuperBuilder
 @ToString
@@ -102,6 +102,28 @@ public class Upload extends AbstractDataLakeWithFile implements RunnableTask<Upl
     @PluginProperty(group = "reliability")
     private Property<Boolean> validateChecksum;
 
+    @Schema(
+        title = "Block size (bytes)",
+        description = "Size of each chunk appended when the file is uploaded in several requests; defaults to the Azure SDK value (4 MiB)"
+    )
+    @PluginProperty(group = "execution")
+    private Property<Long> blockSize;
+
+    @Schema(
+        title = "Maximum parallel chunk uploads per file",
+        description = "Number of chunks of the same file appended in parallel; defaults to the Azure SDK value"
+    )
+    @PluginProperty(group = "execution")
+    private Property<Integer> maxConcurrency;
+
+    @Schema(
+        title = "Maximum single-shot upload size (bytes)",
+        description = "Files up to this size are sent in a single request instead of chunks; defaults to the Azure SDK value (100 MiB). " +
+            "Ignored when `validateChecksum` is enabled without lease, as the file is then always appended by chunks."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Long> maxSingleUploadSize;
+
     @Override
     public Upload.Output run(RunContext runContext) throws Exception {
         URI fromUri = new URI(runContext.render(this.from).as(String.class).orElseThrow());
@@ -119,9 +141,14 @@ public class Upload extends AbstractDataLakeWithFile implements RunnableTask<Upl
                 )
             );
 
+            Long rBlockSize = runContext.render(this.blockSize).as(Long.class).orElse(null);
+            Integer rMaxConcurrency = runContext.render(this.maxConcurrency).as(Integer.class).orElse(null);
+            Long rMaxSingleUploadSize = runContext.render(this.maxSingleUploadSize).as(Long.class).orElse(null);
+
             String leaseId = null;
             BlobLeaseClient leaseClient = null;
             BlobClient blobClient = null;
+            PathProperties properties;
 
             String filePath = fileClient.getFilePath();
             if (enableLease) {
@@ -150,31 +177,59 @@ public class Upload extends AbstractDataLakeWithFile implements RunnableTask<Upl
             }
 
             try {
-                BinaryData binaryData = BinaryData.fromFlux(
-                    FluxUtil.toFluxByteBuffer(is, Constants.MAX_INPUT_STREAM_CONVERTER_BUFFER_LENGTH)
-                        .subscribeOn(Schedulers.boundedElastic())
-                ).block();
-
-                if (enableLease && leaseId != null && binaryData != null) {
+                if (enableLease && leaseId != null) {
                     blobClient.uploadWithResponse(
-                        new BlobParallelUploadOptions(binaryData)
+                        new BlobParallelUploadOptions(is)
+                            .setParallelTransferOptions(
+                                new com.azure.storage.blob.models.ParallelTransferOptions()
+                                    .setBlockSizeLong(rBlockSize)
+                                    .setMaxConcurrency(rMaxConcurrency)
+                                    .setMaxSingleUploadSizeLong(rMaxSingleUploadSize)
+                            )
                             .setComputeMd5(rValidateChecksum)
                             .setRequestConditions(new BlobRequestConditions().setLeaseId(leaseId)),
                         null,
                         Context.NONE
                     );
                     runContext.logger().debug("Uploaded file {} using blobClient under lease {}", filePath, leaseId);
-                } else if (binaryData != null) {
-                    FileParallelUploadOptions options = new FileParallelUploadOptions(binaryData);
-                    if (rValidateChecksum) {
-                        byte[] md5 = MessageDigest.getInstance("MD5").digest(binaryData.toBytes());
-                        options.setHeaders(new PathHttpHeaders().setContentMd5(md5));
-                    }
-                    fileClient.uploadWithResponse(options, null, Context.NONE);
+                } else if (rValidateChecksum) {
+                    // the content MD5 must be known when flushing, so the file is appended by chunks while it is hashed
+                    fileClient.create(true);
+                    Pair<byte[], Long> appended = DataLakeService.append(
+                        fileClient,
+                        is,
+                        0,
+                        rBlockSize != null ? Math.toIntExact(rBlockSize) : DataLakeService.DEFAULT_APPEND_CHUNK_SIZE,
+                        rMaxConcurrency != null ? rMaxConcurrency : DataLakeService.DEFAULT_APPEND_CONCURRENCY,
+                        null
+                    );
+                    fileClient.flushWithResponse(
+                        appended.getRight(),
+                        false,
+                        true,
+                        new PathHttpHeaders().setContentMd5(appended.getLeft()),
+                        null,
+                        null,
+                        Context.NONE
+                    );
+                    runContext.logger().debug("Uploaded file {} using fileClient by validated chunks (no lease)", filePath);
+                } else {
+                    fileClient.uploadWithResponse(
+                        new FileParallelUploadOptions(is)
+                            .setParallelTransferOptions(
+                                new ParallelTransferOptions()
+                                    .setBlockSizeLong(rBlockSize)
+                                    .setMaxConcurrency(rMaxConcurrency)
+                                    .setMaxSingleUploadSizeLong(rMaxSingleUploadSize)
+                            ),
+                        null,
+                        Context.NONE
+                    );
                     runContext.logger().debug("Uploaded file {} using fileClient (no lease)", filePath);
                 }
 
-                runContext.metric(Counter.of("file.size", fileClient.getProperties().getFileSize()));
+                properties = fileClient.getProperties();
+                runContext.metric(Counter.of("file.size", properties.getFileSize()));
 
             } finally {
                 if (leaseClient != null && leaseId != null) {
@@ -188,7 +243,7 @@ public class Upload extends AbstractDataLakeWithFile implements RunnableTask<Upl
             }
 
             return Output.builder()
-                .file(AdlsFile.of(fileClient))
+                .file(AdlsFile.of(fileClient, properties))
                 .build();
         }
     }
@@ -2,6 +2,7 @@ package io.kestra.plugin.azure.storage.adls.models;
 
 import java.net.URI;
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.Base64;
 import java.util.List;
 
@@ -43,32 +44,66 @@ public class AdlsFile {
     List<String> accessControlList;
 
     public static AdlsFile of(DataLakeFileClient dataLakeFileClient) {
+        return of(dataLakeFileClient, dataLakeFileClient.getProperties());
+    }
+
+    public static AdlsFile of(DataLakeFileClient dataLakeFileClient, PathProperties properties) {
         return AdlsFile.builder()
             .fileSystem(dataLakeFileClient.getFileSystemName())
             .name(dataLakeFileClient.getFilePath())
             .fileName(dataLakeFileClient.getFileName())
-            .size(dataLakeFileClient.getProperties().getFileSize())
-            .contentType(dataLakeFileClient.getProperties().getContentType())
-            .contentEncoding(dataLakeFileClient.getProperties().getContentEncoding())
-            .contentLanguage(dataLakeFileClient.getProperties().getContentLanguage())
+            .size(properties.getFileSize())
+            .contentType(properties.getContentType())
+            .contentEncoding(properties.getContentEncoding())
+            .contentLanguage(properties.getContentLanguage())
             .contentMd5(
-                dataLakeFileClient.getProperties().getContentMd5() != null
-                    ? Base64.getEncoder().encodeToString(dataLakeFileClient.getProperties().getContentMd5())
+                properties.getContentMd5() != null
+                    ? Base64.getEncoder().encodeToString(properties.getContentMd5())
+                    : null
+            )
+            .creationTime(toInstant(properties.getCreationTime()))
+            .lastModifed(toInstant(properties.getLastModified()))
+            .eTag(properties.getETag())
+            .isDirectory(properties.isDirectory())
+            .leaseState(properties.getLeaseState())
+            .leaseDuration(properties.getLeaseDuration())
+            .leaseStatus(properties.getLeaseStatus())
+            .archiveStatus(properties.getArchiveStatus())
+            .archiveTier(properties.getAccessTier())
+            .owner(properties.getOwner())
+            .group(properties.getGroup())
+            .permissions(properties.getPermissions())
+            .accessControlList(
+                properties.getAccessControlList() != null
+                    ? properties.getAccessControlList().stream().map(PathAccessControlEntry::toString).toList()
                     : null
             )
-            .lastModifed(dataLakeFileClient.getProperties().getCreationTime().toInstant())
-            .lastModifed(dataLakeFileClient.getProperties().getLastModified().toInstant())
-            .eTag(dataLakeFileClient.getProperties().getETag())
-            .isDirectory(dataLakeFileClient.getProperties().isDirectory())
-            .leaseState(dataLakeFileClient.getProperties().getLeaseState())
-            .leaseDuration(dataLakeFileClient.getProperties().getLeaseDuration())
-            .leaseStatus(dataLakeFileClient.getProperties().getLeaseStatus())
-            .archiveStatus(dataLakeFileClient.getProperties().getArchiveStatus())
-            .archiveTier(dataLakeFileClient.getProperties().getAccessTier())
-            .owner(dataLakeFileClient.getProperties().getOwner())
-            .group(dataLakeFileClient.getProperties().getGroup())
-            .permissions(dataLakeFileClient.getProperties().getPermissions())
-            .accessControlList(dataLakeFileClient.getProperties().getAccessControlList().stream().map(PathAccessControlEntry::toString).toList())
             .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds the file from a listing entry without any additional request; content headers, lease and archive
+     * information are not part of a listing and are left empty.
+     */
+    public static AdlsFile of(String fileSystem, PathItem pathItem) {
+        String name = pathItem.getName();
+
+        return AdlsFile.builder()
+            .fileSystem(fileSystem)
+            .name(name)
+            .fileName(name.substring(name.lastIndexOf('/') + 1))
+            .size(pathItem.getContentLength())
+            .creationTime(toInstant(pathItem.getCreationTime()))
+            .lastModifed(toInstant(pathItem.getLastModified()))
+            .eTag(pathItem.getETag())
+            .isDirectory(pathItem.isDirectory())
+            .owner(pathItem.getOwner())
+            .group(pathItem.getGroup())
+            .permissions(pathItem.getPermissions())
+            .build();
+    }
+
+    private static Instant toInstant(OffsetDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant() : null;
+    }
+}
@@ -1,22 +1,43 @@
 package io.kestra.plugin.azure.storage.adls.services;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.OpenOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.tuple.Pair;
 
 import com.azure.core.credential.AzureNamedKeyCredential;
 import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.util.Context;
 import com.azure.identity.DefaultAzureCredentialBuilder;
+import com.azure.storage.common.ParallelTransferOptions;
 import com.azure.storage.file.datalake.DataLakeFileClient;
 import com.azure.storage.file.datalake.DataLakeFileSystemClient;
 import com.azure.storage.file.datalake.DataLakeServiceClient;
 import com.azure.storage.file.datalake.DataLakeServiceClientBuilder;
+import com.azure.storage.file.datalake.models.DataLakeFileOpenInputStreamResult;
+import com.azure.storage.file.datalake.models.DataLakeRequestConditions;
+import com.azure.storage.file.datalake.models.FileRange;
+import com.azure.storage.file.datalake.models.FileReadResponse;
 import com.azure.storage.file.datalake.models.ListPathsOptions;
 import com.azure.storage.file.datalake.models.PathItem;
 import com.azure.storage.file.datalake.models.PathProperties;
+import com.azure.storage.file.datalake.options.DataLakeFileInputStreamOptions;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.executions.metrics.Counter;
@@ -24,8 +45,29 @@ import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.FileUtils;
 import io.kestra.plugin.azure.storage.adls.models.AdlsFile;
 import io.kestra.plugin.azure.storage.services.ChecksumValidator;
+import io.kestra.plugin.azure.storage.services.ListingPosition;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 public class DataLakeService {
+    public static final int DEFAULT_APPEND_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    public static final int DEFAULT_APPEND_CONCURRENCY = 8;
+
+    /**
+     * Maximum number of results the service returns in a single listing page.
+     */
+    public static final int MAX_PAGE_SIZE = 5000;
+
+    private static final Set<OpenOption> OVERWRITE_OPTIONS = Set.of(
+        StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE
+    );
+
     public static URI read(RunContext runContext, DataLakeFileClient client) throws IOException {
         return read(runContext, client, null);
     }
@@ -34,38 +76,280 @@ public class DataLakeService {
         RunContext runContext,
         DataLakeFileClient client,
         ChecksumValidator.Options checksumOptions
+    ) throws IOException {
+        return read(runContext, client, checksumOptions, null);
+    }
+
+    /**
+     * @param transferOptions block size and concurrency of the ranged reads of a single file, the Azure SDK defaults
+     *                        are used when null
+     */
+    public static URI read(
+        RunContext runContext,
+        DataLakeFileClient client,
+        ChecksumValidator.Options checksumOptions,
+        ParallelTransferOptions transferOptions
+    ) throws IOException {
+        if (checksumOptions != null && checksumOptions.isPerBlock()) {
+            return readPerBlock(runContext, client, checksumOptions);
+        }
+
+        return store(runContext, download(runContext, client, checksumOptions, transferOptions), checksumOptions);
+    }
+
+    /**
+     * Reads a file to a temporary file of the working directory, computing the digest required by the checksum options
+     * in the same pass, without touching the internal storage nor the metrics so it can be called concurrently.
+     * The result is then handed to {@link #store(RunContext, Download, ChecksumValidator.Options)} on the calling thread.
+     * Per-block validation is not supported here, see {@link #read(RunContext, DataLakeFileClient, ChecksumValidator.Options, ParallelTransferOptions)}.
+     */
+    public static Download download(
+        RunContext runContext,
+        DataLakeFileClient client,
+        ChecksumValidator.Options checksumOptions,
+        ParallelTransferOptions transferOptions
     ) throws IOException {
         File tempFile = runContext.workingDir().createTempFile(FileUtils.getExtension(client.getFileName())).toFile();
-        PathProperties pathProperties = client.readToFile(tempFile.getAbsolutePath(), true);
 
-        runContext.metric(Counter.of("file.size", pathProperties.getFileSize()));
+        if (checksumOptions == null || !checksumOptions.enabled()) {
+            PathProperties pathProperties = client.readToFileWithResponse(
+                tempFile.getAbsolutePath(),
+                null,
+                transferOptions,
+                null,
+                null,
+                false,
+                OVERWRITE_OPTIONS,
+                null,
+                Context.NONE
+            ).getValue();
+
+            return new Download(client.getFilePath(), tempFile, pathProperties.getFileSize(), null, null, pathProperties);
+        }
+
+        // stream the file to disk and compute the digest in the same pass instead of reading the file twice
+        DataLakeFileOpenInputStreamResult result = client.openInputStream(
+            new DataLakeFileInputStreamOptions().setBlockSize(
+                transferOptions != null && transferOptions.getBlockSizeLong() != null
+                    ? Math.toIntExact(transferOptions.getBlockSizeLong())
+                    : ChecksumValidator.STREAM_BLOCK_SIZE
+            )
+        );
+        PathProperties pathProperties = result.getProperties();
+        byte[] digest;
+
+        try (InputStream in = result.getInputStream()) {
+            digest = ChecksumValidator.copy(in, tempFile, checksumOptions);
+        }
+
+        return new Download(client.getFilePath(), tempFile, pathProperties.getFileSize(), digest, pathProperties.getContentMd5(), pathProperties);
+    }
 
-        ChecksumValidator.verify(
+    /**
+     * Records the size of a {@link Download}, validates its checksum and puts it in the internal storage.
+     */
+    public static URI store(RunContext runContext, Download download, ChecksumValidator.Options checksumOptions) throws IOException {
+        runContext.metric(Counter.of("file.size", download.size()));
+
+        ChecksumValidator.verifyDigest(
             runContext,
+            download.digest(),
+            download.contentMd5(),
+            checksumOptions,
+            download.path()
+        );
+
+        return runContext.storage().putFile(download.file());
+    }
+
+    private static URI readPerBlock(
+        RunContext runContext,
+        DataLakeFileClient client,
+        ChecksumValidator.Options checksumOptions
+    ) throws IOException {
+        return readPerBlock(runContext, client, client.getProperties(), checksumOptions);
+    }
+
+    /**
+     * Reads a file validating the checksum of each block, the ranges being read against the ETag of
+     * {@code pathProperties} so a file modified during the read fails it.
+     */
+    public static URI readPerBlock(
+        RunContext runContext,
+        DataLakeFileClient client,
+        PathProperties pathProperties,
+        ChecksumValidator.Options checksumOptions
+    ) throws IOException {
+        File tempFile = runContext.workingDir().createTempFile(FileUtils.getExtension(client.getFileName())).toFile();
+        DataLakeRequestConditions conditions = new DataLakeRequestConditions().setIfMatch(pathProperties.getETag());
+
+        ChecksumValidator.copyPerBlock(
+            runContext,
+            pathProperties.getFileSize(),
+            (offset, length) ->
+            {
+                ByteArrayOutputStream out = new ByteArrayOutputStream((int) length);
+                FileReadResponse response = client.readWithResponse(out, new FileRange(offset, length), null, conditions, true, null, Context.NONE);
+
+                return Pair.of(out.toByteArray(), response.getDeserializedHeaders().getContentMd5());
+            },
             tempFile,
-            pathProperties.getContentMd5(),
             checksumOptions,
             client.getFilePath()
         );
 
+        runContext.metric(Counter.of("file.size", pathProperties.getFileSize()));
+
         return runContext.storage().putFile(tempFile);
     }
 
     public static List<AdlsFile> list(DataLakeFileSystemClient fileSystemClient, String directoryPath) {
-        ListPathsOptions options = new ListPathsOptions();
-        options.setPath(directoryPath);
+        return list(fileSystemClient, directoryPath, false);
+    }
 
-        PagedIterable<PathItem> pagedIterable = fileSystemClient.listPaths(options, Duration.ofSeconds(30L));
+    /**
+     * Lists all the paths of a directory, building each file from the listing itself.
+     *
+     * @param fetchProperties whether to fetch the full properties (content headers, lease, archive, ACL) of each
+     *                        file, at the cost of one additional request per file
+     */
+    public static List<AdlsFile> list(DataLakeFileSystemClient fileSystemClient, String directoryPath, boolean fetchProperties) {
+        List<AdlsFile> fileList = new ArrayList<>();
+        list(fileSystemClient, directoryPath, false, null, fetchProperties, null, null, fileList::add);
 
-        java.util.Iterator<PathItem> iterator = pagedIterable.iterator();
+        return fileList;
+    }
 
-        List<AdlsFile> fileList = new ArrayList<>();
+    /**
+     * Lists paths page by page, passing each matching file to the consumer and stopping once {@code maxFiles} files
+     * have been consumed. Without {@code regexp}, pages are sized to the remaining count so a listing never overshoots.
+     * With a {@code regexp}, whole pages are read and the listing may stop inside a page; the returned token then also
+     * carries the position within that page, see {@link ListingPosition}.
+     *
+     * @param regexp Java regex the full path must match, applied client-side
+     * @return the continuation token resuming exactly after the last consumed file, or {@code null} if the listing is complete
+     */
+    public static String list(
+        DataLakeFileSystemClient fileSystemClient,
+        String directoryPath,
+        boolean recursive,
+        String regexp,
+        boolean fetchProperties,
+        String continuationToken,
+        Integer maxFiles,
+        Consumer<AdlsFile> consumer
+    ) {
+        Pattern pattern = regexp != null ? Pattern.compile(regexp) : null;
 
-        while (iterator.hasNext()) {
-            PathItem item = iterator.next();
-            fileList.add(AdlsFile.of(fileSystemClient.getFileClient(item.getName())));
+        ListPathsOptions options = new ListPathsOptions()
+            .setPath(directoryPath)
+            .setRecursive(recursive);
+
+        PagedIterable<PathItem> items = fileSystemClient.listPaths(options, Duration.ofSeconds(30L));
+
+        ListingPosition position = ListingPosition.decode(continuationToken);
+        String token = position.pageToken();
+        int offset = position.offset();
+        long remaining = maxFiles != null ? maxFiles : Long.MAX_VALUE;
+
+        do {
+            String pageToken = token;
+            // with a regexp, a page sized to the remaining count could hold a single match
+            int pageSize = pattern != null || offset > 0 ? MAX_PAGE_SIZE : (int) Math.max(1, Math.min(remaining, MAX_PAGE_SIZE));
+            PagedResponse<PathItem> page = items.iterableByPage(pageToken, pageSize).iterator().next();
+            List<PathItem> values = page.getValue();
+
+            for (int index = offset; index < values.size(); index++) {
+                if (remaining == 0) {
+                    return new ListingPosition(pageToken, index).encode();
+                }
+
+                PathItem item = values.get(index);
+                if (pattern == null || pattern.matcher(item.getName()).matches()) {
+                    consumer.accept(
+                        fetchProperties
+                            ? AdlsFile.of(fileSystemClient.getFileClient(item.getName()))
+                            : AdlsFile.of(fileSystemClient.getFileSystemName(), item)
+                    );
+                    remaining--;
+                }
+            }
+
+            offset = 0;
+            token = page.getContinuationToken();
+        } while (token != null && !token.isEmpty() && remaining > 0);
+
+        return token != null && !token.isEmpty() ? token : null;
+    }
+
+    /**
+     * Appends the stream to the file at {@code position} by chunks of {@code chunkSize} bytes, with up to
+     * {@code concurrency} chunks sent in parallel while the next ones are read. Each chunk carries its own MD5 checked
+     * by the service, and the MD5 of the whole content is computed as it is read, so memory stays bounded whatever
+     * the size of the stream. The appended data still needs to be flushed.
+     *
+     * @return the MD5 of the appended content and its length
+     */
+    public static Pair<byte[], Long> append(
+        DataLakeFileClient client,
+        InputStream in,
+        long position,
+        int chunkSize,
+        int concurrency,
+        String leaseId
+    ) {
+        MessageDigest digest = md5();
+        AtomicLong offset = new AtomicLong(position);
+
+        Flux.<Pair<Long, byte[]>>generate(sink ->
+            {
+                try {
+                    byte[] chunk = in.readNBytes(chunkSize);
+
+                    if (chunk.length == 0) {
+                        sink.complete();
+                    } else {
+                        digest.update(chunk);
+                        sink.next(Pair.of(offset.getAndAdd(chunk.length), chunk));
+                    }
+                } catch (IOException e) {
+                    sink.error(e);
+                }
+            })
+            .flatMap(
+                chunk -> Mono
+                    .fromCallable(() -> client.appendWithResponse(
+                        new ByteArrayInputStream(chunk.getRight()),
+                        chunk.getLeft(),
+                        chunk.getRight().length,
+                        md5().digest(chunk.getRight()),
+                        leaseId,
+                        null,
+                        Context.NONE
+                    ))
+                    .subscribeOn(Schedulers.boundedElastic()),
+                concurrency
+            )
+            .blockLast();
+
+        return Pair.of(digest.digest(), offset.get() - position);
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
-        return fileList;
+    }
+
+    /**
+     * A file read to a temporary file, not yet in the internal storage.
+     *
+     * @param digest     digest of the content using the checksum options algorithm, null if no validation is required
+     * @param properties properties of the file returned by the read
+     */
+    public record Download(String path, File file, long size, byte[] digest, byte[] contentMd5, PathProperties properties) {
     }
 
     public static DataLakeServiceClient client(
@@ -1,7 +1,17 @@
 package io.kestra.plugin.azure.storage.adls.update;
 
-import com.azure.core.util.BinaryData;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.azure.core.util.Context;
 import com.azure.storage.file.datalake.DataLakeFileClient;
+import com.azure.storage.file.datalake.models.DataLakeRequestConditions;
+import com.azure.storage.file.datalake.models.PathInfo;
+import com.azure.storage.file.datalake.models.PathProperties;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
@@ -9,12 +19,13 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
-import io.kestra.core.models.tasks.VoidOutput;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.azure.storage.adls.abstracts.AbstractDataLakeWithFile;
+import io.kestra.plugin.azure.storage.adls.services.DataLakeService;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Min;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -44,6 +55,29 @@ import io.kestra.core.models.annotations.PluginProperty;
                     filePath: "path/to/myfile"
                     data: "Text to append"
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Append a large file from the internal storage, 8 chunks at a time.",
+            code = """
+                id: azure_storage_datalake_append_file
+                namespace: company.team
+
+                inputs:
+                  - id: file
+                    type: FILE
+
+                tasks:
+                  - id: append
+                    type: io.kestra.plugin.azure.storage.adls.update.Append
+                    endpoint: "https://yourblob.blob.core.windows.net"
+                    sasToken: "{{ secret('SAS_TOKEN') }}"
+                    fileSystem: "mydata"
+                    filePath: "path/to/myfile"
+                    from: "{{ inputs.file }}"
+                    chunkSize: 8388608
+                    concurrency: 8
+                """
         )
     },
     metrics = {
@@ -53,27 +87,122 @@ import io.kestra.core.models.annotations.PluginProperty;
 )
 @Schema(
     title = "Append data to an existing file in Azure Data Lake Storage",
-    description = "Append data to an existing file in Azure Data Lake Storage using the Azure SDK."
+    description = "Append data to an existing file in Azure Data Lake Storage using the Azure SDK. " +
+        "The data is appended by chunks, several of them in parallel at increasing offsets, and committed with a single flush."
 )
-public class Append extends AbstractDataLakeWithFile implements RunnableTask<VoidOutput> {
-    @Schema(title = "Data")
-    @NotNull
+public class Append extends AbstractDataLakeWithFile implements RunnableTask<Append.Output> {
+    @Schema(
+        title = "Data",
+        description = "Text to append; either `data` or `from` must be set."
+    )
     @PluginProperty(group = "main")
     protected Property<String> data;
 
+    @Schema(
+        title = "Source file",
+        description = "kestra:// URI of an internal storage file to append, read by chunks; either `data` or `from` must be set."
+    )
+    @PluginProperty(internalStorageURI = true, group = "main")
+    protected Property<String> from;
+
+    @Schema(
+        title = "Current length of the file",
+        description = "Offset the data is appended at, for example the `size` output of a previous append. " +
+            "Saves the request that otherwise fetches the file properties."
+    )
+    @PluginProperty(group = "advanced")
+    protected Property<Long> position;
+
+    @Schema(
+        title = "Expected ETag of the file",
+        description = "The append fails if the file was modified since this ETag, for example the `eTag` output of a previous append."
+    )
+    @PluginProperty(group = "reliability")
+    protected Property<String> eTag;
+
+    @Min(1)
+    @Schema(
+        title = "Size of each appended chunk, in bytes"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> chunkSize = Property.ofValue(DataLakeService.DEFAULT_APPEND_CHUNK_SIZE);
+
+    @Min(1)
+    @Schema(
+        title = "Number of chunks appended in parallel"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> concurrency = Property.ofValue(DataLakeService.DEFAULT_APPEND_CONCURRENCY);
+
     @Override
-    public VoidOutput run(RunContext runContext) throws Exception {
+    public Output run(RunContext runContext) throws Exception {
         DataLakeFileClient client = this.dataLakeFileClient(runContext);
 
-        final BinaryData binaryData = BinaryData.fromString(runContext.render(data).as(String.class).orElseThrow());
-        final long fileSize = client.getProperties().getFileSize();
+        String rData = runContext.render(data).as(String.class).orElse(null);
+        String rFrom = runContext.render(from).as(String.class).orElse(null);
+        if ((rData == null) == (rFrom == null)) {
+            throw new IllegalArgumentException("Exactly one of `data` or `from` must be set");
+        }
+
+        String rETag = runContext.render(eTag).as(String.class).orElse(null);
+        Long rPosition = runContext.render(position).as(Long.class).orElse(null);
+        if (rPosition == null) {
+            PathProperties properties = client.getProperties();
+            rPosition = properties.getFileSize();
+            if (rETag == null) {
+                rETag = properties.getETag();
+            }
+        }
 
-        client.append(binaryData, fileSize);
-        client.flush(fileSize + binaryData.getLength(), true);
+        Pair<byte[], Long> appended;
+        try (InputStream in = rFrom != null
+            ? runContext.storage().getFile(new URI(rFrom))
+            : new ByteArrayInputStream(rData.getBytes(StandardCharsets.UTF_8))
+        ) {
+            appended = DataLakeService.append(
+                client,
+                in,
+                rPosition,
+                runContext.render(chunkSize).as(Integer.class).orElse(DataLakeService.DEFAULT_APPEND_CHUNK_SIZE),
+                runContext.render(concurrency).as(Integer.class).orElse(DataLakeService.DEFAULT_APPEND_CONCURRENCY),
+                null
+            );
+        }
 
-        runContext.metric(Counter.of("file.size", fileSize));
-        runContext.metric(Counter.of("data.size", binaryData.getLength()));
+        long size = rPosition + appended.getRight();
 
-        return null;
+        PathInfo pathInfo = client.flushWithResponse(
+            size,
+            false,
+            true,
+            null,
+            new DataLakeRequestConditions().setIfMatch(rETag),
+            null,
+            Context.NONE
+        ).getValue();
+
+        runContext.metric(Counter.of("file.size", rPosition));
+        runContext.metric(Counter.of("data.size", appended.getRight()));
+
+        return Output.builder()
+            .size(size)
+            .eTag(pathInfo.getETag())
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The size of the file after the append"
+        )
+        private final long size;
+
+        @Schema(
+            title = "The ETag of the file after the append"
+        )
+        private final String eTag;
     }
 }
@@ -1,19 +1,29 @@
 package io.kestra.plugin.azure.storage.adls.update;
 
+import com.azure.core.util.Context;
+import com.azure.storage.file.datalake.DataLakeDirectoryClient;
 import com.azure.storage.file.datalake.DataLakeFileClient;
+import com.azure.storage.file.datalake.models.AccessControlChangeCounters;
+import com.azure.storage.file.datalake.models.AccessControlChangeFailure;
+import com.azure.storage.file.datalake.models.AccessControlChangeResult;
+import com.azure.storage.file.datalake.models.AccessControlType;
 import com.azure.storage.file.datalake.models.PathAccessControlEntry;
 import com.azure.storage.file.datalake.models.PathPermissions;
 import com.azure.storage.file.datalake.models.RolePermissions;
+import com.azure.storage.file.datalake.options.PathUpdateAccessControlRecursiveOptions;
 
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
-import io.kestra.core.models.tasks.VoidOutput;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.azure.storage.adls.abstracts.AbstractDataLakeWithFile;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import io.kestra.core.models.annotations.PluginProperty;
@@ -46,14 +56,52 @@ import io.kestra.core.models.annotations.PluginProperty;
                     otherPermissions:
                       readPermissions: true
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Apply permissions to a whole directory tree, 10 batches of 2,000 paths at a time.",
+            code = """
+                id: azure_storage_datalake_set_access_control_recursive
+                namespace: company.team
+
+                inputs:
+                  - id: continuationToken
+                    type: STRING
+                    required: false
+
+                tasks:
+                  - id: set_access_control
+                    type: io.kestra.plugin.azure.storage.adls.update.SetAccessControl
+                    endpoint: "https://yourblob.blob.core.windows.net"
+                    sasToken: "{{ secret('SAS_TOKEN') }}"
+                    fileSystem: "mydata"
+                    filePath: "path/to/my/directory"
+                    recursive: true
+                    batchSize: 2000
+                    maxBatches: 10
+                    continueOnFailure: true
+                    continuationToken: "{{ inputs.continuationToken }}"
+                    ownerPermissions:
+                      readPermission: true
+                      writePermission: true
+                      executePermission: true
+                    groupPermissions:
+                      readPermission: true
+                      executePermission: true
+                """
         )
+    },
+    metrics = {
+        @Metric(name = "acl.changed.directories", type = Counter.TYPE, description = "The number of directories changed in recursive mode."),
+        @Metric(name = "acl.changed.files", type = Counter.TYPE, description = "The number of files changed in recursive mode."),
+        @Metric(name = "acl.failed", type = Counter.TYPE, description = "The number of paths that failed in recursive mode.")
     }
 )
 @Schema(
-    title = "Set access controls to a file in Azure Data Lake Storage",
-    description = "Set access controls to a file in Azure Data Lake Storage using the Azure SDK."
+    title = "Set access controls to a file or a directory tree in Azure Data Lake Storage",
+    description = "Set access controls to a file in Azure Data Lake Storage using the Azure SDK, or to a whole directory tree in `recursive` mode."
 )
-public class SetAccessControl extends AbstractDataLakeWithFile implements RunnableTask<VoidOutput> {
+public class SetAccessControl extends AbstractDataLakeWithFile implements RunnableTask<SetAccessControl.Output> {
     @Schema(
         title = "Group permissions"
     )
@@ -72,35 +120,52 @@ public class SetAccessControl extends AbstractDataLakeWithFile implements Runnab
     @PluginProperty(group = "advanced")
     private Permission otherPermissions;
 
-    @Override
-    public VoidOutput run(RunContext runContext) throws Exception {
-        DataLakeFileClient client = this.dataLakeFileClient(runContext);
+    @Schema(
+        title = "Apply the permissions recursively",
+        description = "`filePath` is then a directory: the permissions of the directory and of everything below it are updated by the service, in batches. " +
+            "Named ACL entries are kept, only the owner, group and other entries are replaced."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> recursive = Property.ofValue(false);
 
-        runContext.logger().info("Initial permissions are : {}", PathAccessControlEntry.serializeList(client.getAccessControl().getAccessControlList()));
+    @Min(1)
+    @Schema(
+        title = "Number of paths changed per batch in recursive mode",
+        description = "Defaults to the service value (2,000)."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Integer> batchSize;
 
-        RolePermissions groupPermission = new RolePermissions();
-        if (this.groupPermissions != null) {
-            groupPermission
-                .setExecutePermission(runContext.render(groupPermissions.getExecutePermission()).as(Boolean.class).orElse(false))
-                .setWritePermission(runContext.render(groupPermissions.getWritePermission()).as(Boolean.class).orElse(false))
-                .setReadPermission(runContext.render(groupPermissions.getReadPermission()).as(Boolean.class).orElse(false));
-        }
+    @Min(1)
+    @Schema(
+        title = "Maximum number of batches run in recursive mode",
+        description = "When reached, the task stops and returns a `continuationToken` to resume from. All the batches are run when not set."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Integer> maxBatches;
 
-        RolePermissions ownerPermission = new RolePermissions();
-        if (this.ownerPermissions != null) {
-            ownerPermission
-                .setExecutePermission(runContext.render(ownerPermissions.getExecutePermission()).as(Boolean.class).orElse(false))
-                .setWritePermission(runContext.render(ownerPermissions.getWritePermission()).as(Boolean.class).orElse(false))
-                .setReadPermission(runContext.render(ownerPermissions.getReadPermission()).as(Boolean.class).orElse(false));
-        }
+    @Schema(
+        title = "Continuation token to resume a previous recursive run",
+        description = "The `continuationToken` output of a previous run on the same directory."
+    )
+    @PluginProperty(group = "source")
+    private Property<String> continuationToken;
 
-        RolePermissions otherPermission = new RolePermissions();
-        if (this.otherPermissions != null) {
-            otherPermission
-                .setExecutePermission(runContext.render(otherPermissions.getExecutePermission()).as(Boolean.class).orElse(false))
-                .setWritePermission(runContext.render(otherPermissions.getWritePermission()).as(Boolean.class).orElse(false))
-                .setReadPermission(runContext.render(otherPermissions.getReadPermission()).as(Boolean.class).orElse(false));
-        }
+    @Schema(
+        title = "Keep going when some paths fail in recursive mode",
+        description = "Failed paths are reported in the outputs instead of stopping at the first failing batch. " +
+            "Otherwise, the task fails on the first failing batch, with the `continuationToken` to resume from in its error."
+    )
+    @Builder.Default
+    @PluginProperty(group = "reliability")
+    private Property<Boolean> continueOnFailure = Property.ofValue(false);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        RolePermissions groupPermission = rolePermissions(runContext, this.groupPermissions);
+        RolePermissions ownerPermission = rolePermissions(runContext, this.ownerPermissions);
+        RolePermissions otherPermission = rolePermissions(runContext, this.otherPermissions);
 
         PathPermissions permissions = new PathPermissions();
 
@@ -108,10 +173,130 @@ public class SetAccessControl extends AbstractDataLakeWithFile implements Runnab
         permissions.setOwner(ownerPermission);
         permissions.setOther(otherPermission);
 
-        client.setPermissions(permissions, null, null);
-        runContext.logger().info("Final permissions are : {}", PathAccessControlEntry.serializeList(client.getAccessControl().getAccessControlList()));
+        if (!runContext.render(this.recursive).as(Boolean.class).orElse(false)) {
+            DataLakeFileClient client = this.dataLakeFileClient(runContext);
+
+            client.setPermissions(permissions, null, null);
+            runContext.logger().info("Permissions of '{}' set to {}", client.getFilePath(), permissions);
+
+            return Output.builder()
+                .changedFiles(1L)
+                .build();
+        }
 
-        return null;
+        DataLakeDirectoryClient directoryClient = this.dataLakeServiceClient(runContext)
+            .getFileSystemClient(runContext.render(this.fileSystem).as(String.class).orElse(null))
+            .getDirectoryClient(runContext.render(this.filePath).as(String.class).orElseThrow());
+
+        java.util.List<PathAccessControlEntry> accessControlList = java.util.List.of(
+            new PathAccessControlEntry().setAccessControlType(AccessControlType.USER).setPermissions(ownerPermission),
+            new PathAccessControlEntry().setAccessControlType(AccessControlType.GROUP).setPermissions(groupPermission),
+            new PathAccessControlEntry().setAccessControlType(AccessControlType.OTHER).setPermissions(otherPermission)
+        );
+
+        boolean rContinueOnFailure = runContext.render(this.continueOnFailure).as(Boolean.class).orElse(false);
+
+        PathUpdateAccessControlRecursiveOptions options = new PathUpdateAccessControlRecursiveOptions(accessControlList)
+            .setContinuationToken(runContext.render(this.continuationToken).as(String.class).orElse(null))
+            .setContinueOnFailure(rContinueOnFailure);
+        runContext.render(this.batchSize).as(Integer.class).ifPresent(options::setBatchSize);
+        runContext.render(this.maxBatches).as(Integer.class).ifPresent(options::setMaxBatches);
+
+        AccessControlChangeResult result = directoryClient
+            .updateAccessControlRecursiveWithResponse(options, null, Context.NONE)
+            .getValue();
+        AccessControlChangeCounters counters = result.getCounters();
+
+        runContext.metric(Counter.of("acl.changed.directories", counters.getChangedDirectoriesCount()));
+        runContext.metric(Counter.of("acl.changed.files", counters.getChangedFilesCount()));
+        runContext.metric(Counter.of("acl.failed", counters.getFailedChangesCount()));
+
+        java.util.List<String> failures = failures(result, rContinueOnFailure);
+
+        if (!failures.isEmpty()) {
+            runContext.logger().warn("Unable to set the permissions of {} paths, first failures: {}", counters.getFailedChangesCount(), failures);
+        }
+
+        runContext.logger().info(
+            "Permissions set to {} on {} directories and {} files below '{}'",
+            permissions,
+            counters.getChangedDirectoriesCount(),
+            counters.getChangedFilesCount(),
+            directoryClient.getDirectoryPath()
+        );
+
+        return Output.builder()
+            .changedDirectories(counters.getChangedDirectoriesCount())
+            .changedFiles(counters.getChangedFilesCount())
+            .failedChanges(counters.getFailedChangesCount())
+            .failures(failures)
+            .continuationToken(result.getContinuationToken())
+            .build();
+    }
+
+    /**
+     * The failed paths of a recursive change. Without {@code continueOnFailure}, the service stops at the first
+     * failing batch, so the change is left incomplete and the task fails with the token to resume it.
+     */
+    static java.util.List<String> failures(AccessControlChangeResult result, boolean continueOnFailure) {
+        java.util.List<AccessControlChangeFailure> batchFailures = result.getBatchFailures() != null
+            ? result.getBatchFailures()
+            : java.util.List.of();
+
+        if (result.getCounters().getFailedChangesCount() > 0 && !continueOnFailure) {
+            throw new IllegalStateException(
+                "Unable to set the permissions of " + result.getCounters().getFailedChangesCount() + " paths, stopped at the failing batch. " +
+                    "Failures: " + batchFailures.stream().map(failure -> failure.getName() + " (" + failure.getErrorMessage() + ")").toList() + ". " +
+                    "Fix them and resume with the continuationToken '" + result.getContinuationToken() + "', or set continueOnFailure to skip them."
+            );
+        }
+
+        return batchFailures.stream().map(AccessControlChangeFailure::getName).toList();
+    }
+
+    private static RolePermissions rolePermissions(RunContext runContext, Permission permission) throws IllegalVariableEvaluationException {
+        RolePermissions rolePermissions = new RolePermissions();
+
+        if (permission != null) {
+            rolePermissions
+                .setExecutePermission(runContext.render(permission.getExecutePermission()).as(Boolean.class).orElse(false))
+                .setWritePermission(runContext.render(permission.getWritePermission()).as(Boolean.class).orElse(false))
+                .setReadPermission(runContext.render(permission.getReadPermission()).as(Boolean.class).orElse(false));
+        }
+
+        return rolePermissions;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The number of directories whose permissions were changed"
+        )
+        private final long changedDirectories;
+
+        @Schema(
+            title = "The number of files whose permissions were changed"
+        )
+        private final long changedFiles;
+
+        @Schema(
+            title = "The number of paths whose permissions could not be changed",
+            description = "Only set in recursive mode with `continueOnFailure`, as the task fails on failed paths otherwise."
+        )
+        private final long failedChanges;
+
+        @Schema(
+            title = "The paths of the failed changes reported by the service",
+            description = "The service only reports a sample of the failures."
+        )
+        private final java.util.List<String> failures;
+
+        @Schema(
+            title = "Continuation token to resume the recursive change",
+            description = "Set when the run stopped at `maxBatches` before the end; pass it as `continuationToken` to resume."
+        )
+        private final String continuationToken;
     }
 
     @SuperBuilder(toBuilder = true)
@@ -1,23 +1,27 @@
 package io.kestra.plugin.azure.storage.blob;
 
-import java.time.OffsetDateTime;
+import org.slf4j.Logger;
 
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
-import com.azure.storage.blob.sas.BlobSasPermission;
-import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobType;
 
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.azure.shared.storage.blob.abstracts.AbstractBlobStorageWithSas;
 import io.kestra.plugin.azure.shared.storage.blob.models.Blob;
+import io.kestra.plugin.azure.storage.blob.services.BlobCopyService;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -45,12 +49,38 @@ import lombok.experimental.SuperBuilder;
                       container: "my-bucket2"
                       key: "path/to/file2"
                 """
+        ),
+        @Example(
+            title = "Copy a large blob with 256 MiB blocks staged 16 at a time.",
+            full = true,
+            code = """
+                id: azure_storage_blob_copy_large
+                namespace: company.team
+
+                tasks:
+                  - id: copy
+                    type: io.kestra.plugin.azure.storage.blob.Copy
+                    from:
+                      container: "my-bucket"
+                      name: "path/to/large-file.parquet"
+                    to:
+                      container: "my-bucket2"
+                      name: "path/to/large-file.parquet"
+                    blockSize: 268435456
+                    concurrency: 16
+                """
         )
+    },
+    metrics = {
+        @Metric(name = "copy.bytes", type = Counter.TYPE, description = "The number of bytes copied."),
+        @Metric(name = "copy.blocks", type = Counter.TYPE, description = "The number of blocks staged when copying a large block blob.")
     }
 )
 @Schema(
     title = "Copy a blob within Azure Storage",
-    description = "Copies a blob to another container/path using a short-lived SAS token; optionally deletes the source after copy."
+    description = "Copies a blob to another container/path using a short-lived SAS token; optionally deletes the source after copy. " +
+        "Blobs up to `maxSingleCopySize` (256 MiB) are copied in a single synchronous request, larger block blobs are copied by staging ranges of the source " +
+        "as blocks in parallel, and other blob types fall back to an asynchronous server-side copy."
 )
 public class Copy extends AbstractBlobStorageWithSas implements RunnableTask<Copy.Output> {
     @Schema(title = "Source blob", description = "Container and blob path to copy from")
@@ -68,8 +98,34 @@ public class Copy extends AbstractBlobStorageWithSas implements RunnableTask<Cop
     @PluginProperty(group = "advanced")
     private Property<Boolean> delete = Property.ofValue(false);
 
+    @Schema(
+        title = "Block size used to copy large blobs, in bytes",
+        description = "Only used for block blobs larger than `maxSingleCopySize`. It is increased automatically if the blob would need more than 50,000 blocks."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Long> blockSize = Property.ofValue(100L * 1024 * 1024);
+
+    @Schema(
+        title = "Maximum single-request copy size, in bytes",
+        description = "Blobs up to this size are copied with a single synchronous request, larger ones by staged blocks or an asynchronous copy; " +
+            "cannot exceed the service limit of 256 MiB."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Long> maxSingleCopySize = Property.ofValue(BlobCopyService.SYNC_COPY_MAX_SIZE);
+
+    @Min(1)
+    @Schema(
+        title = "Number of blocks staged in parallel when copying large blobs"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(8);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
         BlobServiceClient client = this.client(runContext);
 
         BlobContainerClient fromContainerClient = client.getBlobContainerClient(runContext.render(this.from.container).as(String.class).orElse(null));
@@ -78,13 +134,32 @@ public class Copy extends AbstractBlobStorageWithSas implements RunnableTask<Cop
         BlobContainerClient toContainerClient = client.getBlobContainerClient(runContext.render(this.to.container).as(String.class).orElse(null));
         BlobClient toBlobClient = toContainerClient.getBlobClient(runContext.render(this.to.name).as(String.class).orElseThrow());
 
-        OffsetDateTime expiryTime = OffsetDateTime.now().plusMinutes(15);
-        BlobSasPermission permission = new BlobSasPermission().setReadPermission(true);
-
-        BlobServiceSasSignatureValues values = new BlobServiceSasSignatureValues(expiryTime, permission)
-            .setStartTime(OffsetDateTime.now());
-
-        toBlobClient.copyFromUrl(fromBlobClient.getBlobUrl() + "?" + fromBlobClient.generateSas(values));
+        BlobProperties sourceProperties = fromBlobClient.getProperties();
+        long size = sourceProperties.getBlobSize();
+        String sourceUrl = BlobCopyService.sasUrl(fromBlobClient, size);
+        long rMaxSingleCopySize = Math.min(
+            runContext.render(this.maxSingleCopySize).as(Long.class).orElse(BlobCopyService.SYNC_COPY_MAX_SIZE),
+            BlobCopyService.SYNC_COPY_MAX_SIZE
+        );
+
+        if (size <= rMaxSingleCopySize) {
+            toBlobClient.copyFromUrl(sourceUrl);
+            runContext.metric(Counter.of("copy.bytes", size));
+        } else if (sourceProperties.getBlobType() == BlobType.BLOCK_BLOB) {
+            long blocks = BlobCopyService.stagedCopy(
+                runContext,
+                sourceUrl,
+                sourceProperties,
+                toBlobClient.getBlockBlobClient(),
+                runContext.render(this.blockSize).as(Long.class).orElseThrow(),
+                runContext.render(this.concurrency).as(Integer.class).orElseThrow()
+            );
+
+            logger.debug("Copied '{}' with {} staged blocks for {} bytes", fromBlobClient.getBlobName(), blocks, size);
+        } else {
+            BlobCopyService.asyncCopy(sourceUrl, toBlobClient);
+            runContext.metric(Counter.of("copy.bytes", size));
+        }
 
         if (runContext.render(this.delete).as(Boolean.class).orElseThrow()) {
             Delete.builder()
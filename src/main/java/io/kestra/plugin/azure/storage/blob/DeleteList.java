@@ -1,14 +1,15 @@
 package io.kestra.plugin.azure.storage.blob;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 
-import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.batch.BlobBatchClient;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
@@ -23,6 +24,7 @@ import io.kestra.plugin.azure.shared.storage.blob.abstracts.AbstractBlobStorageW
 import io.kestra.plugin.azure.shared.storage.blob.abstracts.ListInterface;
 import io.kestra.plugin.azure.shared.storage.blob.models.Blob;
 import io.kestra.plugin.azure.shared.storage.blob.services.BlobService;
+import io.kestra.plugin.azure.storage.blob.services.BlobBatchService;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
@@ -65,7 +67,7 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
 )
 @Schema(
     title = "Delete a list of objects from Azure Blob Storage",
-    description = "Delete a list of objects from Azure Blob Storage using the Azure SDK."
+    description = "Delete a list of objects from Azure Blob Storage using the Azure SDK. Blobs are deleted through the Blob Batch API, up to 256 blobs per request."
 )
 public class DeleteList extends AbstractBlobStorageWithSas implements RunnableTask<DeleteList.Output>, ListInterface, AbstractBlobStorageContainerInterface {
     @PluginProperty(group = "main")
@@ -86,7 +88,8 @@ public class DeleteList extends AbstractBlobStorageWithSas implements RunnableTa
 
     @Min(2)
     @Schema(
-        title = "Number of concurrent parallel deletions"
+        title = "Number of concurrent parallel deletions",
+        description = "Blobs are deleted through the Blob Batch API, up to 256 blobs per request; this is the number of batch requests sent in parallel."
     )
     @PluginProperty(dynamic = false, group = "execution")
     private Integer concurrent;
@@ -115,21 +118,24 @@ public class DeleteList extends AbstractBlobStorageWithSas implements RunnableTa
                 emitter.complete();
             }), FluxSink.OverflowStrategy.BUFFER);
 
-        Flux<Long> result;
+        BlobBatchClient batchClient = BlobBatchService.batchClient(client);
+        Flux<List<Blob>> batches = flowable.buffer(BlobBatchService.MAX_BATCH_SIZE);
+
+        Flux<Pair<Long, Long>> result;
 
         if (this.concurrent != null) {
-            result = flowable
+            result = batches
                 .parallel(this.concurrent)
                 .runOn(Schedulers.boundedElastic())
-                .map(delete(logger, containerClient))
+                .map(delete(logger, batchClient, containerClient))
                 .sequential();
         } else {
-            result = flowable
-                .map(delete(logger, containerClient));
+            result = batches
+                .map(delete(logger, batchClient, containerClient));
         }
 
         Pair<Long, Long> finalResult = result
-            .reduce(Pair.of(0L, 0L), (pair, size) -> Pair.of(pair.getLeft() + 1, pair.getRight() + size))
+            .reduce(Pair.of(0L, 0L), (pair, batch) -> Pair.of(pair.getLeft() + batch.getLeft(), pair.getRight() + batch.getRight()))
             .block();
 
         runContext.metric(Counter.of("blobs.count", finalResult.getLeft()));
@@ -153,17 +159,14 @@ public class DeleteList extends AbstractBlobStorageWithSas implements RunnableTa
             .build();
     }
 
-    private static Function<Blob, Long> delete(Logger logger, BlobContainerClient containerClient) {
-        return o ->
+    private static Function<List<Blob>, Pair<Long, Long>> delete(Logger logger, BlobBatchClient batchClient, BlobContainerClient containerClient) {
+        return blobs ->
         {
-            logger.debug("Deleting '{}'", o.getName());
-
-            BlobClient blobClient = containerClient.getBlobClient(o.getName());
-            long blobSize = blobClient.getProperties().getBlobSize();
+            blobs.forEach(o -> logger.debug("Deleting '{}'", o.getName()));
 
-            blobClient.delete();
+            long size = BlobBatchService.delete(batchClient, containerClient, blobs);
 
-            return blobSize;
+            return Pair.of((long) blobs.size(), size);
         };
     }
 
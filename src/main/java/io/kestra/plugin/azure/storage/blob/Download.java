@@ -9,6 +9,7 @@ import com.azure.storage.blob.models.BlobProperties;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
@@ -19,6 +20,8 @@ import io.kestra.plugin.azure.storage.services.ChecksumValidator;
 import io.kestra.plugin.azure.storage.services.SingleFileChecksumValidatedInterface;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -76,17 +79,42 @@ public class Download extends AbstractBlobStorageWithSasObject implements Runnab
 
     private Property<Boolean> failOnMissingChecksum;
 
+    private Property<Boolean> validateChecksumPerBlock;
+
     private Property<String> expectedChecksum;
 
     private Property<ChecksumValidator.Algorithm> checksumAlgorithm;
 
+    @Min(1)
+    @Schema(
+        title = "Size of each ranged request used to download the blob, in bytes",
+        description = "Up to `maxConcurrency` ranges are buffered in memory while the blob is streamed to the internal storage."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> blockSize = Property.ofValue(BlobService.DEFAULT_DOWNLOAD_BLOCK_SIZE);
+
+    @Min(1)
+    @Schema(
+        title = "Number of ranges downloaded in parallel"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> maxConcurrency = Property.ofValue(BlobService.DEFAULT_DOWNLOAD_CONCURRENCY);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         BlobClient blobClient = this.blobClient(runContext);
         ChecksumValidator.Options checksumOptions = ChecksumValidator.resolve(
-            runContext, validateChecksum, failOnMissingChecksum, expectedChecksum, checksumAlgorithm
+            runContext, validateChecksum, failOnMissingChecksum, expectedChecksum, checksumAlgorithm, validateChecksumPerBlock
+        );
+        Pair<BlobProperties, URI> download = BlobService.download(
+            runContext,
+            blobClient,
+            checksumOptions,
+            runContext.render(blockSize).as(Integer.class).orElse(null),
+            runContext.render(maxConcurrency).as(Integer.class).orElse(null)
         );
-        Pair<BlobProperties, URI> download = BlobService.download(runContext, blobClient, checksumOptions);
 
         return Output
             .builder()
@@ -27,6 +27,7 @@ import io.kestra.plugin.azure.storage.services.ChecksumValidatedInterface;
 import io.kestra.plugin.azure.storage.services.ChecksumValidator;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
@@ -102,6 +103,25 @@ public class Downloads extends AbstractBlobStorageWithSas implements RunnableTas
 
     private Property<Boolean> failOnMissingChecksum;
 
+    private Property<Boolean> validateChecksumPerBlock;
+
+    @Min(1)
+    @Schema(
+        title = "Size of each ranged request used to download the blob, in bytes",
+        description = "Up to `maxConcurrency` ranges are buffered in memory while the blob is streamed to the internal storage."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> blockSize = Property.ofValue(BlobService.DEFAULT_DOWNLOAD_BLOCK_SIZE);
+
+    @Min(1)
+    @Schema(
+        title = "Number of ranges downloaded in parallel"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> maxConcurrency = Property.ofValue(BlobService.DEFAULT_DOWNLOAD_CONCURRENCY);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         List task = List.builder()
@@ -125,9 +145,12 @@ public class Downloads extends AbstractBlobStorageWithSas implements RunnableTas
         BlobContainerClient containerClient = client.getBlobContainerClient(runContext.render(this.container).as(String.class).orElse(null));
 
         ChecksumValidator.Options checksumOptions = ChecksumValidator.resolve(
-            runContext, validateChecksum, failOnMissingChecksum, null, null
+            runContext, validateChecksum, failOnMissingChecksum, null, null, validateChecksumPerBlock
         );
 
+        Integer rBlockSize = runContext.render(blockSize).as(Integer.class).orElse(null);
+        Integer rMaxConcurrency = runContext.render(maxConcurrency).as(Integer.class).orElse(null);
+
         java.util.List<Blob> list = run
             .getBlobs()
             .stream()
@@ -135,7 +158,7 @@ public class Downloads extends AbstractBlobStorageWithSas implements RunnableTas
             {
                 BlobClient blobClient = containerClient.getBlobClient(object.getName());
 
-                Pair<BlobProperties, URI> download = BlobService.download(runContext, blobClient, checksumOptions);
+                Pair<BlobProperties, URI> download = BlobService.download(runContext, blobClient, checksumOptions, rBlockSize, rMaxConcurrency);
 
                 return Blob.of(blobClient, download.getLeft())
                     .withUri(download.getRight());
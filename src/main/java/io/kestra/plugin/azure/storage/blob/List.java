@@ -1,5 +1,13 @@
 package io.kestra.plugin.azure.storage.blob;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
 
@@ -9,18 +17,22 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
 import io.kestra.plugin.azure.shared.storage.blob.models.Blob;
 import io.kestra.plugin.azure.shared.storage.blob.abstracts.AbstractBlobStorageContainerInterface;
 import io.kestra.plugin.azure.shared.storage.blob.abstracts.AbstractBlobStorageWithSas;
 import io.kestra.plugin.azure.shared.storage.blob.abstracts.ListInterface;
-import io.kestra.plugin.azure.shared.storage.blob.services.BlobService;
+import io.kestra.plugin.azure.storage.blob.services.BlobService;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import io.kestra.core.models.annotations.PluginProperty;
 
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+
 @SuperBuilder
 @ToString
 @EqualsAndHashCode
@@ -43,6 +55,29 @@ import io.kestra.core.models.annotations.PluginProperty;
                     prefix: "sub-dir"
                     delimiter: "/"
                 """
+        ),
+        @Example(
+            title = "List a very large container into an internal storage file, 100,000 blobs at a time.",
+            full = true,
+            code = """
+                id: azure_storage_blob_list_store
+                namespace: company.team
+
+                inputs:
+                  - id: continuationToken
+                    type: STRING
+                    required: false
+
+                tasks:
+                  - id: list
+                    type: io.kestra.plugin.azure.storage.blob.List
+                    endpoint: "https://yourblob.blob.core.windows.net"
+                    connectionString: "DefaultEndpointsProtocol=...=="
+                    container: "mydata"
+                    maxFiles: 100000
+                    fetchType: STORE
+                    continuationToken: "{{ inputs.continuationToken }}"
+                """
         )
     },
     metrics = {
@@ -51,7 +86,9 @@ import io.kestra.core.models.annotations.PluginProperty;
 )
 @Schema(
     title = "List blob objects in an Azure Blob Storage container",
-    description = "List blob objects in an Azure Blob Storage container using the Azure SDK."
+    description = "List blob objects in an Azure Blob Storage container using the Azure SDK. " +
+        "Pages are fetched one at a time and the listing stops as soon as `maxFiles` blobs are found; " +
+        "the returned `continuationToken` can be passed back to resume the listing."
 )
 public class List extends AbstractBlobStorageWithSas implements RunnableTask<List.Output>, ListInterface, AbstractBlobStorageContainerInterface {
     @PluginProperty(group = "main")
@@ -78,39 +115,80 @@ public class List extends AbstractBlobStorageWithSas implements RunnableTask<Lis
     @PluginProperty(group = "processing")
     private Property<Integer> maxFiles = Property.ofValue(25);
 
+    @Schema(
+        title = "Continuation token to resume a previous listing",
+        description = "The `continuationToken` output of a previous run with the same container, prefix and delimiter."
+    )
+    @PluginProperty(group = "source")
+    private Property<String> continuationToken;
+
+    @Schema(
+        title = "How to return the listed blobs",
+        description = "`FETCH` returns the blobs in the `blobs` output, `STORE` writes them to an Ion file in the internal storage, " +
+            "which is recommended for large listings."
+    )
+    @Builder.Default
+    @PluginProperty(group = "destination")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.FETCH);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         BlobServiceClient client = this.client(runContext);
         BlobContainerClient containerClient = client.getBlobContainerClient(runContext.render(this.container).as(String.class).orElse(null));
 
-        java.util.List<Blob> list = BlobService.list(runContext, containerClient, this);
+        Integer rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
+        String rContinuationToken = runContext.render(this.continuationToken).as(String.class).orElse(null);
+        FetchType rFetchType = runContext.render(this.fetchType).as(FetchType.class).orElse(FetchType.FETCH);
+
+        Output.OutputBuilder output = Output.builder();
+        long count;
+        String nextToken;
+
+        if (rFetchType == FetchType.STORE) {
+            File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+            AtomicLong written = new AtomicLong();
+
+            try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
+                nextToken = BlobService.list(runContext, containerClient, this, rContinuationToken, rMaxFiles, throwConsumer(blob ->
+                {
+                    FileSerde.write(outputStream, blob);
+                    written.incrementAndGet();
+                }));
+            }
+
+            count = written.get();
+            output.uri(runContext.storage().putFile(tempFile));
+        } else if (rFetchType == FetchType.FETCH) {
+            java.util.List<Blob> list = new ArrayList<>();
+            nextToken = BlobService.list(runContext, containerClient, this, rContinuationToken, rMaxFiles, list::add);
+
+            count = list.size();
+            output.blobs(list);
+        } else {
+            throw new IllegalArgumentException("Unsupported fetchType '" + rFetchType + "', only FETCH and STORE are supported");
+        }
 
-        runContext.metric(Counter.of("blobs.count", list.size()));
+        runContext.metric(Counter.of("blobs.count", count));
 
         runContext.logger().debug(
             "Found '{}' keys on {} with regexp='{}', prefix={}",
-            list.size(),
-            runContext.render(containerClient.getBlobContainerName()),
+            count,
+            containerClient.getBlobContainerName(),
             runContext.render(regexp).as(String.class).orElse(null),
             runContext.render(prefix).as(String.class).orElse(null)
         );
 
-        Integer rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
-
-        if (list.size() > rMaxFiles) {
+        if (nextToken != null) {
             runContext.logger().warn(
-                "Listing returned {} blobs but maxFiles limit is {}. "
-                    + "Only the first {} blobs will be returned. "
-                    + "Increase the maxFiles property if you need more blobs.",
-                list.size(),
-                rMaxFiles,
+                "Listing was limited to {} blobs by maxFiles property. "
+                    + "Increase the maxFiles property or use the continuationToken output to list the next blobs.",
                 rMaxFiles
             );
-            list = list.subList(0, rMaxFiles);
         }
 
-        return Output.builder()
-            .blobs(list)
+        return output
+            .count(count)
+            .continuationToken(nextToken)
             .build();
     }
 
@@ -118,8 +196,26 @@ public class List extends AbstractBlobStorageWithSas implements RunnableTask<Lis
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
         @Schema(
-            title = "The list of blobs"
+            title = "The list of blobs",
+            description = "Only set when `fetchType` is `FETCH`."
         )
         private final java.util.List<Blob> blobs;
+
+        @Schema(
+            title = "The number of blobs listed"
+        )
+        private final long count;
+
+        @Schema(
+            title = "URI of the Ion file containing the listed blobs",
+            description = "Only set when `fetchType` is `STORE`."
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Continuation token of the next page",
+            description = "Set when the listing stopped at `maxFiles` before the end; pass it as `continuationToken` to resume the listing."
+        )
+        private final String continuationToken;
     }
 }
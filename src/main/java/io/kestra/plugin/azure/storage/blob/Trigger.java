@@ -1,11 +1,17 @@
 package io.kestra.plugin.azure.storage.blob;
 
+import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.azure.storage.blob.BlobContainerClient;
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
 
 import io.kestra.core.models.annotations.Example;
@@ -13,6 +19,7 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.conditions.ConditionContext;
 import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.triggers.*;
 import io.kestra.core.runners.RunContext;
@@ -23,10 +30,15 @@ import io.kestra.plugin.azure.storage.blob.abstracts.ActionInterface;
 import io.kestra.plugin.azure.shared.storage.blob.abstracts.ListInterface;
 import io.kestra.plugin.azure.shared.storage.blob.models.Blob;
 import io.kestra.plugin.azure.storage.blob.services.BlobService;
+import io.kestra.plugin.azure.storage.services.DatePartitions;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import static io.kestra.core.models.triggers.StatefulTriggerService.*;
 import static io.kestra.core.utils.Rethrow.throwFunction;
@@ -43,7 +55,7 @@ import io.kestra.core.models.annotations.PluginProperty;
     description = "This trigger will poll the specified Azure Blob Storage container every `interval`. "
         + "Using the `from` and `regExp` properties, you can define which files' arrival will trigger the flow. "
         + "Under the hood, we use the Azure Blob Storage API to list the files in a specified location and "
-        + "download them to the internal storage and process them with the declared `action`. "
+        + "download them to the internal storage (see `download`) and process them with the declared `action`. "
         + "You can use the `action` property to move or delete the files from the container after processing "
         + "to avoid the trigger being fired again for the same files during the next polling interval."
 )
@@ -120,12 +132,45 @@ import io.kestra.core.models.annotations.PluginProperty;
                       container: myBlobContainer
                       name: archive
                 """
+        ),
+        @Example(
+            title = "Incrementally watch a container where files land in daily partitions, "
+                + "only listing the partitions since the last processed file.",
+            full = true,
+            code = """
+                id: incremental_files
+                namespace: company.team
+
+                tasks:
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.blobs | length }} new files"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.azure.storage.blob.Trigger
+                    interval: PT30S
+                    endpoint: "https://yourblob.blob.core.windows.net"
+                    connectionString: "{{ secret('AZURE_CONNECTION_STRING') }}"
+                    container: myBlobContainer
+                    prefix: landing/
+                    mode: WATERMARK
+                    partitionFormat: "yyyy/MM/dd/"
+                    maxFiles: 500
+                    action: NONE
+                """
         )
     }
 )
 public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Trigger.Output>, AbstractConnectionInterface, ListInterface, ActionInterface,
     AbstractBlobStorageContainerInterface, AzureClientWithSasInterface, StatefulTriggerInterface {
 
+    private static final String WATERMARK_KEY = "$watermark";
+
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(5);
+
+    private static final Duration PARTITION_INITIAL_LOOKBACK = Duration.ofDays(1);
+
     @Builder.Default
     private final Duration interval = Duration.ofSeconds(60);
 
@@ -172,79 +217,127 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
 
     private Property<Duration> stateTtl;
 
+    @Schema(
+        title = "How new blobs are detected",
+        description = "`FULL` lists the whole prefix on every poll and checks each blob against the trigger state. " +
+            "`WATERMARK` only considers blobs modified after the most recent blob already processed (minus a 5 minutes overlap), " +
+            "fires them from the oldest to the newest up to `maxFiles`, and only keeps those recent blobs in the trigger state. " +
+            "Combined with `partitionFormat`, only the date partitions since the watermark are listed, " +
+            "so each poll costs about the number of new blobs instead of the container size. " +
+            "Without `partitionFormat`, `WATERMARK` still lists the whole prefix on every poll and only saves on the trigger state."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Mode> mode = Property.ofValue(Mode.FULL);
+
+    @Schema(
+        title = "Date partition appended to the prefix in `WATERMARK` mode",
+        description = "A date-time pattern such as `yyyy/MM/dd/`, `yyyy/MM/dd/HH/` or `yyyy/MM/dd/HH/mm/`, formatted in UTC and appended to `prefix`. " +
+            "Every partition between the watermark and now is listed, stepping by the smallest field of the pattern; " +
+            "on the first poll, partitions of the last day are listed. Patterns finer than a minute are rejected."
+    )
+    @PluginProperty(group = "source")
+    private Property<String> partitionFormat;
+
+    @Schema(
+        title = "How blobs are downloaded when the trigger fires",
+        description = "`PARALLEL` downloads the new blobs with up to `downloadConcurrency` concurrent downloads before firing. " +
+            "`SEQUENTIAL` downloads them one after the other, which holds the trigger evaluation for the sum of the downloads. " +
+            "`NONE` does not download anything and fires right away: the `uri` of each blob is its URL, without any SAS token, " +
+            "and the flow is responsible for reading it, for example with the `Download` task."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<DownloadMode> download = Property.ofValue(DownloadMode.PARALLEL);
+
+    @Min(1)
+    @Schema(
+        title = "Number of concurrent downloads when `download` is `PARALLEL`"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> downloadConcurrency = Property.ofValue(8);
+
     @Override
     public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
         RunContext runContext = conditionContext.getRunContext();
         var rOn = runContext.render(on).as(On.class).orElse(On.CREATE_OR_UPDATE);
         var rStateKey = runContext.render(stateKey).as(String.class).orElse(StatefulTriggerService.defaultKey(context.getNamespace(), context.getFlowId(), id));
         var rStateTtl = runContext.render(stateTtl).as(Duration.class);
+        var rMode = runContext.render(mode).as(Mode.class).orElse(Mode.FULL);
+
+        BlobContainerClient containerClient = BlobService
+            .client(this.endpoint, this.connectionString, this.sharedKeyAccountName, this.sharedKeyAccountAccessKey, this.sasToken, runContext)
+            .getBlobContainerClient(runContext.render(this.container).as(String.class).orElse(null));
+
+        java.util.List<Blob> blobs;
+        Map<String, StatefulTriggerService.Entry> previousState = null;
+        Optional<Instant> watermark = Optional.empty();
+        int limit = Integer.MAX_VALUE;
+
+        if (rMode == Mode.WATERMARK) {
+            previousState = readState(runContext, rStateKey, rStateTtl);
+            watermark = Optional.ofNullable(previousState.get(WATERMARK_KEY)).map(StatefulTriggerService.Entry::modifiedAt);
+            blobs = this.listSince(runContext, containerClient, watermark.map(instant -> instant.minus(WATERMARK_OVERLAP)).orElse(null));
+            limit = runContext.render(this.maxFiles).as(Integer.class).orElse(Integer.MAX_VALUE);
+        } else {
+            blobs = new ArrayList<>();
+            BlobService.list(runContext, containerClient, this, null, runContext.render(this.maxFiles).as(Integer.class).orElse(25), blobs::add);
+        }
 
-        var task = List.builder()
-            .id(this.id)
-            .type(List.class.getName())
-            .endpoint(this.endpoint)
-            .connectionString(this.connectionString)
-            .sharedKeyAccountName(this.sharedKeyAccountName)
-            .sharedKeyAccountAccessKey(this.sharedKeyAccountAccessKey)
-            .sasToken(this.sasToken)
-            .container(this.container)
-            .prefix(this.prefix)
-            .delimiter(this.delimiter)
-            .regexp(this.regexp)
-            .delimiter(this.delimiter)
-            .maxFiles(this.maxFiles)
-            .build();
-        List.Output run = task.run(runContext);
-
-        if (run.getBlobs().isEmpty()) {
+        if (blobs.isEmpty()) {
             return Optional.empty();
         }
 
-        var previousState = readState(runContext, rStateKey, rStateTtl);
+        if (previousState == null) {
+            previousState = readState(runContext, rStateKey, rStateTtl);
+        }
 
         var actionBlobs = new ArrayList<Blob>();
+        var changeTypes = new ArrayList<ChangeType>();
+        Instant newWatermark = watermark.orElse(null);
 
-        var toFire = run.getBlobs().stream()
-            .flatMap(throwFunction(blob ->
-            {
-                var uri = String.format("az://%s/%s", runContext.render(container).as(String.class).orElse(""), blob.getName());
-                var modifiedAt = Optional.ofNullable(blob.getLastModified()).map(java.time.OffsetDateTime::toInstant).orElse(Instant.now());
-                var version = Optional.ofNullable(blob.getETag()).orElse(String.valueOf(modifiedAt.toEpochMilli()));
-
-                var candidate = StatefulTriggerService.Entry.candidate(uri, version, modifiedAt);
-
-                var stateChange = computeAndUpdateState(previousState, candidate, rOn);
-
-                if (stateChange.fire()) {
-                    var changeType = stateChange.isNew() ? ChangeType.CREATE : ChangeType.UPDATE;
-
-                    Download download = Download.builder()
-                        .id(this.id)
-                        .type(Download.class.getName())
-                        .endpoint(this.endpoint)
-                        .connectionString(this.connectionString)
-                        .sharedKeyAccountName(this.sharedKeyAccountName)
-                        .sharedKeyAccountAccessKey(this.sharedKeyAccountAccessKey)
-                        .sasToken(this.sasToken)
-                        .container(this.container)
-                        .name(Property.ofValue(blob.getName()))
-                        .build();
-
-                    Download.Output downloadOutput = download.run(runContext);
-                    Blob downloadedBlob = blob.withUri(downloadOutput.getBlob().getUri());
-                    actionBlobs.add(blob);
-
-                    return Stream.of(
-                        TriggeredBlob.builder()
-                            .blob(downloadedBlob)
-                            .changeType(changeType)
-                            .build()
-                    );
-                }
+        for (Blob blob : blobs) {
+            if (actionBlobs.size() >= limit) {
+                break;
+            }
 
-                return Stream.empty();
-            }))
-            .toList();
+            var uri = String.format("az://%s/%s", runContext.render(container).as(String.class).orElse(""), blob.getName());
+            var modifiedAt = Optional.ofNullable(blob.getLastModified()).map(java.time.OffsetDateTime::toInstant).orElse(Instant.now());
+            var version = Optional.ofNullable(blob.getETag()).orElse(String.valueOf(modifiedAt.toEpochMilli()));
+
+            var candidate = StatefulTriggerService.Entry.candidate(uri, version, modifiedAt);
+
+            var stateChange = computeAndUpdateState(previousState, candidate, rOn);
+
+            if (newWatermark == null || modifiedAt.isAfter(newWatermark)) {
+                newWatermark = modifiedAt;
+            }
+
+            if (stateChange.fire()) {
+                actionBlobs.add(blob);
+                changeTypes.add(stateChange.isNew() ? ChangeType.CREATE : ChangeType.UPDATE);
+            }
+        }
+
+        var downloaded = this.download(runContext, containerClient, actionBlobs);
+        var toFire = new ArrayList<TriggeredBlob>();
+
+        for (int i = 0; i < actionBlobs.size(); i++) {
+            toFire.add(
+                TriggeredBlob.builder()
+                    .blob(downloaded.get(i))
+                    .changeType(changeTypes.get(i))
+                    .build()
+            );
+        }
+
+        if (rMode == Mode.WATERMARK && newWatermark != null) {
+            Instant pruneBefore = newWatermark.minus(WATERMARK_OVERLAP);
+
+            previousState.entrySet().removeIf(entry -> !WATERMARK_KEY.equals(entry.getKey()) && entry.getValue().modifiedAt().isBefore(pruneBefore));
+            previousState.put(WATERMARK_KEY, StatefulTriggerService.Entry.candidate(WATERMARK_KEY, String.valueOf(newWatermark.toEpochMilli()), newWatermark));
+        }
 
         writeState(runContext, rStateKey, previousState, rStateTtl);
 
@@ -260,6 +353,68 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
         return Optional.of(execution);
     }
 
+    /**
+     * Lists the blobs modified after {@code since}, sorted from the oldest to the newest. With a {@code partitionFormat},
+     * only the date partitions between {@code since} and now are listed.
+     */
+    private java.util.List<Blob> listSince(RunContext runContext, BlobContainerClient containerClient, Instant since) throws Exception {
+        String rPrefix = runContext.render(this.prefix).as(String.class).orElse("");
+        Optional<String> rPartitionFormat = runContext.render(this.partitionFormat).as(String.class);
+
+        Collection<String> prefixes = rPartitionFormat.isPresent() ?
+            DatePartitions.partitions(rPrefix, rPartitionFormat.get(), since != null ? since : Instant.now().minus(PARTITION_INITIAL_LOOKBACK), Instant.now()) :
+            java.util.List.of(rPrefix);
+
+        java.util.List<Blob> blobs = new ArrayList<>();
+
+        for (String partition : prefixes) {
+            BlobService.list(runContext, containerClient, this, partition, null, null, blob ->
+            {
+                if (since == null || blob.getLastModified() == null || blob.getLastModified().toInstant().isAfter(since)) {
+                    blobs.add(blob);
+                }
+            });
+        }
+
+        blobs.sort(Comparator.comparing(Blob::getLastModified, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        return blobs;
+    }
+
+    /**
+     * Resolves the {@code uri} of the blobs that fire according to {@code download}, keeping their order.
+     */
+    private java.util.List<Blob> download(RunContext runContext, BlobContainerClient containerClient, java.util.List<Blob> blobs) throws Exception {
+        var rDownload = runContext.render(this.download).as(DownloadMode.class).orElse(DownloadMode.PARALLEL);
+
+        if (rDownload == DownloadMode.NONE) {
+            return blobs.stream()
+                .map(blob -> blob.withUri(URI.create(containerClient.getBlobClient(blob.getName()).getBlobUrl())))
+                .toList();
+        }
+
+        int concurrency = rDownload == DownloadMode.PARALLEL ?
+            runContext.render(this.downloadConcurrency).as(Integer.class).orElse(8) :
+            1;
+
+        return Flux.fromIterable(blobs)
+            .flatMapSequential(
+                blob -> Mono
+                    .fromCallable(() -> BlobService.downloadToTempFile(runContext, containerClient.getBlobClient(blob.getName())))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .map(downloaded -> Pair.of(blob, downloaded)),
+                concurrency
+            )
+            .map(throwFunction(pair ->
+            {
+                runContext.metric(Counter.of("file.size", pair.getRight().getLeft().getBlobSize()));
+
+                return pair.getLeft().withUri(runContext.storage().putFile(pair.getRight().getRight()));
+            }))
+            .collectList()
+            .block();
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -280,4 +435,15 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
         CREATE,
         UPDATE
     }
+
+    public enum Mode {
+        FULL,
+        WATERMARK
+    }
+
+    public enum DownloadMode {
+        NONE,
+        SEQUENTIAL,
+        PARALLEL
+    }
 }
@@ -1,16 +1,28 @@
 package io.kestra.plugin.azure.storage.blob;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.apache.commons.io.input.CountingInputStream;
+
 import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.BlockBlobItem;
+import com.azure.storage.blob.models.ParallelTransferOptions;
 import com.azure.storage.blob.options.BlobParallelUploadOptions;
 
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
@@ -26,6 +38,7 @@ import io.kestra.plugin.azure.shared.storage.blob.models.BlobImmutabilityPolicy;
 import io.kestra.plugin.azure.shared.storage.blob.abstracts.AbstractBlobStorageWithSasObject;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -33,6 +46,8 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
 
@@ -100,6 +115,9 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
                         container: kestra
                         from: "{{ outputs.previous_task.outputFiles }}"
                         name: "uploads/"
+                        concurrent: 4
+                        blockSize: 8388608
+                        maxConcurrency: 4
                 """
         )
     },
@@ -153,11 +171,46 @@ public class Upload extends AbstractBlobStorageWithSasObject implements Runnable
     @PluginProperty(group = "reliability")
     private Property<Boolean> validateChecksum;
 
+    @Schema(
+        title = "Content type",
+        description = "Content-Type header stored on the blob; sent with the upload request"
+    )
+    @PluginProperty(group = "advanced")
+    private Property<String> contentType;
+
+    @Min(2)
+    @Schema(
+        title = "Number of files uploaded in parallel",
+        description = "Only applies when `from` resolves to several files; files are uploaded sequentially when not set"
+    )
+    @PluginProperty(dynamic = false, group = "execution")
+    private Integer concurrent;
+
+    @Schema(
+        title = "Block size (bytes)",
+        description = "Size of each staged block when a blob is uploaded in several blocks; defaults to the Azure SDK value (4 MiB)"
+    )
+    @PluginProperty(group = "execution")
+    private Property<Long> blockSize;
+
+    @Schema(
+        title = "Maximum parallel block uploads per blob",
+        description = "Number of blocks of the same blob staged in parallel; defaults to the Azure SDK value"
+    )
+    @PluginProperty(group = "execution")
+    private Property<Integer> maxConcurrency;
+
+    @Schema(
+        title = "Maximum single-shot upload size (bytes)",
+        description = "Blobs up to this size are sent in a single Put Blob request instead of staged blocks; defaults to the Azure SDK value (256 MiB)"
+    )
+    @PluginProperty(group = "execution")
+    private Property<Long> maxSingleUploadSize;
+
     @Override
     public Upload.Output run(RunContext runContext) throws Exception {
         BlobClient baseClient = this.blobClient(runContext);
-        List<Blob> uploadedBlobs = new ArrayList<>();
-        boolean rValidateChecksum = runContext.render(this.validateChecksum).as(Boolean.class).orElse(false);
+        Function<InputStream, BlobParallelUploadOptions> uploadOptions = this.uploadOptions(runContext);
 
         var rFrom = this.from;
         if (rFrom instanceof Property<?> propertyFrom) {
@@ -172,113 +225,48 @@ public class Upload extends AbstractBlobStorageWithSasObject implements Runnable
             ? Flux.just(Map.of("uri", rFrom))
             : Data.from(rFrom).read(runContext);
 
-        data
-            .map(throwFunction(row ->
-            {
-                // row is Map<String, Object> - extract the URI
-                URI fileUri;
-                if (row.containsKey("uri")) {
-                    Object uriValue = row.get("uri");
-                    fileUri = uriValue instanceof URI ? (URI) uriValue : new URI(uriValue.toString());
-                } else if (row.size() == 1) {
-                    // Single value in map - use it
-                    Object value = row.values().iterator().next();
-                    fileUri = value instanceof URI ? (URI) value : new URI(value.toString());
-                } else {
-                    // Try to convert the whole map or take first value
-                    Object firstValue = row.values().iterator().next();
-                    fileUri = firstValue instanceof URI ? (URI) firstValue : new URI(firstValue.toString());
-                }
-
-                // Determine which blob client to use
-                BlobClient blobClient;
-                if (uploadedBlobs.isEmpty()) {
-                    // First file uses the base client
-                    blobClient = baseClient;
-                } else {
-                    // Additional files go to container with generated names
-                    var containerClient = baseClient.getContainerClient();
-                    String baseBlobName = baseClient.getBlobName();
-                    if (baseBlobName == null) {
-                        baseBlobName = "";
-                    }
-                    String fileName = java.nio.file.Paths.get(fileUri.getPath()).getFileName().toString();
-                    String targetBlobName;
-                    if (baseBlobName.isEmpty()) {
-                        targetBlobName = fileName;
-                    } else if (baseBlobName.endsWith("/")) {
-                        targetBlobName = baseBlobName + fileName;
-                    } else {
-                        targetBlobName = baseBlobName + "/" + fileName;
-                    }
-                    blobClient = containerClient.getBlobClient(targetBlobName);
-                }
-
-                runContext.logger().debug("Upload from '{}' to '{}'", fileUri, blobClient.getBlobName());
-
-                try (var is = runContext.storage().getFile(fileUri)) {
-                    blobClient.uploadWithResponse(
-                        new BlobParallelUploadOptions(is).setComputeMd5(rValidateChecksum),
-                        null,
-                        Context.NONE
-                    );
-                }
-
-                if (this.metadata != null) {
-                    blobClient.setMetadata(
-                        runContext.render(this.metadata).asMap(String.class, String.class)
-                            .entrySet()
-                            .stream()
-                            .map(
-                                throwFunction(
-                                    flow -> new AbstractMap.SimpleEntry<>(
-                                        runContext.render(flow.getKey()),
-                                        runContext.render(flow.getValue())
-                                    )
-                                )
-                            )
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
-                    );
-                }
-
-                if (this.tags != null) {
-                    blobClient.setTags(
-                        runContext.render(this.tags).asMap(String.class, String.class)
-                            .entrySet()
-                            .stream()
-                            .map(
-                                throwFunction(
-                                    flow -> new AbstractMap.SimpleEntry<>(
-                                        runContext.render(flow.getKey()),
-                                        runContext.render(flow.getValue())
-                                    )
-                                )
-                            )
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
-                    );
-                }
-
-                if (this.accessTier != null) {
-                    blobClient.setAccessTier(com.azure.storage.blob.models.AccessTier.fromString(runContext.render(this.accessTier).as(AccessTier.class).orElseThrow().name()));
-                }
-
-                if (this.legalHold != null) {
-                    blobClient.setLegalHold(runContext.render(this.legalHold).as(Boolean.class).orElseThrow());
-                }
-
-                if (this.immutabilityPolicy != null) {
-                    blobClient.setImmutabilityPolicy(this.immutabilityPolicy.to(runContext));
-                }
-
-                runContext.metric(Counter.of("file.size", blobClient.getProperties().getBlobSize()));
-
-                Blob blob = Blob.of(blobClient, blobClient.getProperties());
-                uploadedBlobs.add(blob);
-
-                return 1;
-            }))
-            .reduce(Integer::sum)
-            .blockOptional().orElse(0);
+        List<URI> fileUris = data
+            .map(throwFunction(Upload::fileUri))
+            .collectList()
+            .blockOptional()
+            .orElse(List.of());
+
+        // the internal storage and the metrics are only used from this thread, the workers only run the transfers
+        Semaphore slots = new Semaphore(this.concurrent != null ? this.concurrent : 1);
+        List<CompletableFuture<Blob>> uploads = new ArrayList<>();
+
+        for (int index = 0; index < fileUris.size(); index++) {
+            slots.acquire();
+            if (uploads.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                break;
+            }
+
+            URI fileUri = fileUris.get(index);
+            BlobClient blobClient = targetClient(baseClient, index, fileUri);
+            InputStream is = runContext.storage().getFile(fileUri);
+
+            runContext.logger().debug("Upload from '{}' to '{}'", fileUri, blobClient.getBlobName());
+
+            uploads.add(
+                Mono
+                    .fromCallable(() -> upload(blobClient, is, uploadOptions))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .doFinally(signal -> slots.release())
+                    .toFuture()
+            );
+        }
+
+        // ordering of the output follows the input even when uploaded concurrently
+        List<Blob> uploadedBlobs = new ArrayList<>();
+        for (CompletableFuture<Blob> upload : uploads) {
+            try {
+                uploadedBlobs.add(upload.get());
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+
+        uploadedBlobs.forEach(blob -> runContext.metric(Counter.of("file.size", blob.getSize())));
 
         return Output
             .builder()
@@ -287,6 +275,113 @@ public class Upload extends AbstractBlobStorageWithSasObject implements Runnable
             .build();
     }
 
+    /**
+     * The first file uses the base client, additional files go to the container with generated names.
+     */
+    private static BlobClient targetClient(BlobClient baseClient, int index, URI fileUri) {
+        if (index == 0) {
+            return baseClient;
+        }
+
+        String baseBlobName = baseClient.getBlobName();
+        if (baseBlobName == null) {
+            baseBlobName = "";
+        }
+        String fileName = java.nio.file.Paths.get(fileUri.getPath()).getFileName().toString();
+        String targetBlobName;
+        if (baseBlobName.isEmpty()) {
+            targetBlobName = fileName;
+        } else if (baseBlobName.endsWith("/")) {
+            targetBlobName = baseBlobName + fileName;
+        } else {
+            targetBlobName = baseBlobName + "/" + fileName;
+        }
+
+        return baseClient.getContainerClient().getBlobClient(targetBlobName);
+    }
+
+    private static Blob upload(
+        BlobClient blobClient,
+        InputStream stream,
+        Function<InputStream, BlobParallelUploadOptions> uploadOptions
+    ) throws Exception {
+        try (var is = new CountingInputStream(stream)) {
+            BlobParallelUploadOptions options = uploadOptions.apply(is);
+            BlockBlobItem item = blobClient
+                .uploadWithResponse(options, null, Context.NONE)
+                .getValue();
+
+            // the properties that were set are taken from the request, the service returning only the ETag and date
+            return Blob.builder()
+                .container(blobClient.getContainerName())
+                .name(blobClient.getBlobName())
+                .size(is.getByteCount())
+                .eTag(item.getETag())
+                .lastModified(item.getLastModified())
+                .contentType(options.getHeaders() != null ? options.getHeaders().getContentType() : null)
+                .metadata(options.getMetadata())
+                .tags(options.getTags())
+                .accessTier(options.getTier())
+                .build();
+        }
+    }
+
+    private Function<InputStream, BlobParallelUploadOptions> uploadOptions(RunContext runContext) throws Exception {
+        boolean rValidateChecksum = runContext.render(this.validateChecksum).as(Boolean.class).orElse(false);
+        Map<String, String> rMetadata = this.metadata != null ? this.renderMap(runContext, this.metadata) : null;
+        Map<String, String> rTags = this.tags != null ? this.renderMap(runContext, this.tags) : null;
+        com.azure.storage.blob.models.AccessTier rAccessTier = runContext.render(this.accessTier).as(AccessTier.class)
+            .map(tier -> com.azure.storage.blob.models.AccessTier.fromString(tier.name()))
+            .orElse(null);
+        Boolean rLegalHold = runContext.render(this.legalHold).as(Boolean.class).orElse(null);
+        com.azure.storage.blob.models.BlobImmutabilityPolicy rImmutabilityPolicy = this.immutabilityPolicy != null ? this.immutabilityPolicy.to(runContext) : null;
+        BlobHttpHeaders headers = runContext.render(this.contentType).as(String.class)
+            .map(type -> new BlobHttpHeaders().setContentType(type))
+            .orElse(null);
+
+        ParallelTransferOptions parallelTransferOptions = new ParallelTransferOptions()
+            .setBlockSizeLong(runContext.render(this.blockSize).as(Long.class).orElse(null))
+            .setMaxConcurrency(runContext.render(this.maxConcurrency).as(Integer.class).orElse(null))
+            .setMaxSingleUploadSizeLong(runContext.render(this.maxSingleUploadSize).as(Long.class).orElse(null));
+
+        return is -> new BlobParallelUploadOptions(is)
+            .setParallelTransferOptions(parallelTransferOptions)
+            .setComputeMd5(rValidateChecksum)
+            .setHeaders(headers)
+            .setMetadata(rMetadata)
+            .setTags(rTags)
+            .setTier(rAccessTier)
+            .setLegalHold(rLegalHold)
+            .setImmutabilityPolicy(rImmutabilityPolicy);
+    }
+
+    private Map<String, String> renderMap(RunContext runContext, Property<Map<String, String>> property) throws IllegalVariableEvaluationException {
+        return runContext.render(property).asMap(String.class, String.class)
+            .entrySet()
+            .stream()
+            .map(
+                throwFunction(
+                    entry -> new AbstractMap.SimpleEntry<>(
+                        runContext.render(entry.getKey()),
+                        runContext.render(entry.getValue())
+                    )
+                )
+            )
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static URI fileUri(Map<String, Object> row) throws URISyntaxException {
+        Object value;
+        if (row.containsKey("uri")) {
+            value = row.get("uri");
+        } else {
+            // Single value in map or first value of a larger map
+            value = row.values().iterator().next();
+        }
+
+        return value instanceof URI uri ? uri : new URI(value.toString());
+    }
+
     @SuperBuilder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
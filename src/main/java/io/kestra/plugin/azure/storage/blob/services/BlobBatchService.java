@@ -0,0 +1,69 @@
+package io.kestra.plugin.azure.storage.blob.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.batch.BlobBatchClient;
+import com.azure.storage.blob.batch.BlobBatchClientBuilder;
+
+import io.kestra.plugin.azure.shared.storage.blob.models.Blob;
+
+import reactor.core.publisher.Flux;
+
+public class BlobBatchService {
+    /**
+     * Maximum number of sub-requests accepted by a single Blob Batch request.
+     */
+    public static final int MAX_BATCH_SIZE = 256;
+
+    public static BlobBatchClient batchClient(BlobServiceClient client) {
+        return new BlobBatchClientBuilder(client).buildClient();
+    }
+
+    /**
+     * Deletes up to {@link #MAX_BATCH_SIZE} blobs of the same container in a single batch request.
+     * Sizes are taken from the listing, no properties are fetched.
+     *
+     * @return the total size of the deleted blobs
+     */
+    public static long delete(BlobBatchClient batchClient, BlobContainerClient containerClient, List<Blob> blobs) {
+        List<String> blobUrls = blobs.stream()
+            .map(blob -> containerClient.getBlobClient(blob.getName()).getBlobUrl())
+            .toList();
+
+        // the paged responses must be consumed, failed sub-requests are raised while iterating
+        batchClient.deleteBlobs(blobUrls, null).forEach(response ->
+        {
+        });
+
+        return blobs.stream()
+            .mapToLong(blob -> Optional.ofNullable(blob.getSize()).orElse(0L))
+            .sum();
+    }
+
+    /**
+     * Deletes blobs from any container, grouping them by container in batches of {@link #MAX_BATCH_SIZE}.
+     *
+     * @return the total size of the deleted blobs
+     */
+    public static long delete(BlobServiceClient client, List<Blob> blobs) {
+        BlobBatchClient batchClient = batchClient(client);
+        Map<String, List<Blob>> byContainer = blobs.stream().collect(Collectors.groupingBy(Blob::getContainer));
+
+        return Flux.fromIterable(byContainer.entrySet())
+            .flatMap(entry ->
+            {
+                BlobContainerClient containerClient = client.getBlobContainerClient(entry.getKey());
+
+                return Flux.fromIterable(entry.getValue())
+                    .buffer(MAX_BATCH_SIZE)
+                    .map(batch -> delete(batchClient, containerClient, batch));
+            })
+            .reduce(0L, Long::sum)
+            .block();
+    }
+}
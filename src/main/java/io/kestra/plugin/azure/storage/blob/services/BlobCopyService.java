@@ -0,0 +1,159 @@
+package io.kestra.plugin.azure.storage.blob.services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import com.azure.core.util.Context;
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.core.util.polling.PollResponse;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.models.BlobCopyInfo;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.options.BlockBlobCommitBlockListOptions;
+import com.azure.storage.blob.options.BlockBlobStageBlockFromUrlOptions;
+import com.azure.storage.blob.sas.BlobSasPermission;
+import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+public class BlobCopyService {
+    /**
+     * Size limit of a synchronous Copy Blob From URL request.
+     */
+    public static final long SYNC_COPY_MAX_SIZE = 256L * 1024 * 1024;
+
+    /**
+     * Maximum number of committed blocks on a block blob.
+     */
+    public static final int MAX_BLOCKS = 50_000;
+
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private static final Duration SAS_MIN_VALIDITY = Duration.ofMinutes(15);
+
+    /**
+     * Slowest copy rate the source SAS must allow for, so a large copy never outlives its token.
+     */
+    private static final long SAS_MIN_BYTES_PER_SECOND = 4L * 1024 * 1024;
+
+    /**
+     * Returns the blob URL with a read-only SAS valid long enough to copy {@code size} bytes, even at
+     * {@link #SAS_MIN_BYTES_PER_SECOND}.
+     */
+    public static String sasUrl(BlobClient client, long size) {
+        return client.getBlobUrl() + "?" + client.generateSas(sasValues(size));
+    }
+
+    /**
+     * Read-only SAS values valid long enough to copy {@code size} bytes, even at {@link #SAS_MIN_BYTES_PER_SECOND}.
+     */
+    public static BlobServiceSasSignatureValues sasValues(long size) {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        return new BlobServiceSasSignatureValues(
+            now.plus(SAS_MIN_VALIDITY).plusSeconds(size / SAS_MIN_BYTES_PER_SECOND),
+            new BlobSasPermission().setReadPermission(true)
+        )
+            .setStartTime(now.minusMinutes(5));
+    }
+
+    /**
+     * Copies a block blob by staging ranges of the source as blocks of the destination in parallel, then committing
+     * the block list with the source headers and metadata. Ranges are read with an {@code If-Match} on the source
+     * ETag so a source modified during the copy fails it instead of producing a mixed blob.
+     *
+     * @return the number of staged blocks
+     */
+    public static long stagedCopy(
+        RunContext runContext,
+        String sourceUrl,
+        BlobProperties source,
+        BlockBlobClient to,
+        long blockSize,
+        int concurrency
+    ) {
+        long size = source.getBlobSize();
+        long effectiveBlockSize = Math.max(blockSize, (size + MAX_BLOCKS - 1) / MAX_BLOCKS);
+        long blockCount = Math.max(1, (size + effectiveBlockSize - 1) / effectiveBlockSize);
+
+        List<String> blockIds = LongStream.range(0, blockCount)
+            .mapToObj(BlobCopyService::blockId)
+            .toList();
+
+        BlobRequestConditions sourceConditions = new BlobRequestConditions().setIfMatch(source.getETag());
+
+        long copied = Flux.range(0, (int) blockCount)
+            .parallel(concurrency)
+            .runOn(Schedulers.boundedElastic())
+            .map(index ->
+            {
+                long offset = index * effectiveBlockSize;
+                long length = Math.min(effectiveBlockSize, size - offset);
+
+                to.stageBlockFromUrlWithResponse(
+                    new BlockBlobStageBlockFromUrlOptions(blockIds.get(index), sourceUrl)
+                        .setSourceRange(new BlobRange(offset, length))
+                        .setSourceRequestConditions(sourceConditions),
+                    null,
+                    Context.NONE
+                );
+
+                return length;
+            })
+            .sequential()
+            .reduce(0L, Long::sum)
+            .block();
+
+        runContext.metric(Counter.of("copy.blocks", blockCount));
+        runContext.metric(Counter.of("copy.bytes", copied));
+
+        BlobHttpHeaders headers = new BlobHttpHeaders()
+            .setContentType(source.getContentType())
+            .setContentEncoding(source.getContentEncoding())
+            .setContentLanguage(source.getContentLanguage())
+            .setContentDisposition(source.getContentDisposition())
+            .setCacheControl(source.getCacheControl())
+            .setContentMd5(source.getContentMd5());
+
+        to.commitBlockListWithResponse(
+            new BlockBlobCommitBlockListOptions(blockIds)
+                .setHeaders(headers)
+                .setMetadata(source.getMetadata()),
+            null,
+            Context.NONE
+        );
+
+        return blockCount;
+    }
+
+    /**
+     * Starts an asynchronous server-side copy and polls it until it completes.
+     */
+    public static void asyncCopy(String sourceUrl, BlobClient to) {
+        PollResponse<BlobCopyInfo> response = to
+            .beginCopy(sourceUrl, POLL_INTERVAL)
+            .waitForCompletion();
+
+        if (response.getStatus() != LongRunningOperationStatus.SUCCESSFULLY_COMPLETED) {
+            throw new IllegalStateException(
+                "Unable to copy to '" + to.getBlobUrl() + "', copy ended with status '" + response.getStatus() + "'"
+            );
+        }
+    }
+
+    private static String blockId(long index) {
+        return Base64.getEncoder().encodeToString(String.format("%08d", index).getBytes(StandardCharsets.UTF_8));
+    }
+}
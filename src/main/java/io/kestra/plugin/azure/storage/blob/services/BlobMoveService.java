@@ -0,0 +1,163 @@
+package io.kestra.plugin.azure.storage.blob.services;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.policy.BearerTokenAuthenticationPolicy;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.models.UserDelegationKey;
+import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
+import com.azure.storage.common.policy.StorageSharedKeyCredentialPolicy;
+
+import io.kestra.plugin.azure.shared.storage.blob.models.Blob;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+public class BlobMoveService {
+    public static final int DEFAULT_CONCURRENCY = 8;
+
+    /**
+     * Longest validity of a user delegation key accepted by the service.
+     */
+    private static final long USER_DELEGATION_KEY_MAX_DAYS = 7;
+
+    /**
+     * Moves blobs server-side using a single service client: blobs are copied in parallel, then all the sources
+     * are deleted through the Blob Batch API.
+     *
+     * @param sasToken the SAS token the client was built with, used to read the sources when the client has no
+     *                 key to sign them with
+     * @param target   maps each source blob to its destination container and name
+     * @return the moved blobs with their destination container and name
+     */
+    public static List<Blob> move(
+        BlobServiceClient client,
+        String sasToken,
+        List<Blob> blobs,
+        Function<Blob, Target> target,
+        int concurrency
+    ) {
+        if (blobs.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, BlobContainerClient> containerClients = new ConcurrentHashMap<>();
+        SourceSigner signer = new SourceSigner(client, sasToken);
+
+        List<Blob> moved = Flux.fromIterable(blobs)
+            .parallel(concurrency)
+            .runOn(Schedulers.boundedElastic())
+            .map(blob ->
+            {
+                BlobClient fromBlobClient = containerClients
+                    .computeIfAbsent(blob.getContainer(), client::getBlobContainerClient)
+                    .getBlobClient(blob.getName());
+
+                Target to = target.apply(blob);
+                BlobClient toBlobClient = containerClients
+                    .computeIfAbsent(to.container(), client::getBlobContainerClient)
+                    .getBlobClient(to.name());
+
+                long size = blob.getSize() != null ? blob.getSize() : fromBlobClient.getProperties().getBlobSize();
+                String sourceUrl = signer.url(fromBlobClient, size);
+
+                if (size <= BlobCopyService.SYNC_COPY_MAX_SIZE) {
+                    toBlobClient.copyFromUrl(sourceUrl);
+                } else {
+                    BlobCopyService.asyncCopy(sourceUrl, toBlobClient);
+                }
+
+                return Blob.builder()
+                    .container(to.container())
+                    .name(to.name())
+                    .size(size)
+                    .build();
+            })
+            .sequential()
+            .collectList()
+            .block();
+
+        BlobBatchService.delete(client, blobs);
+
+        return moved;
+    }
+
+    public record Target(String container, String name) {
+    }
+
+    /**
+     * Signs the copy sources with what the client is authenticated with: a service SAS with a shared key, a user
+     * delegation SAS with a token credential, or else the SAS token of the connection, as it can't sign new ones.
+     */
+    private static class SourceSigner {
+        private final BlobServiceClient client;
+        private final String sasToken;
+        private final boolean sharedKey;
+        private final boolean tokenCredential;
+        private UserDelegationKey userDelegationKey;
+
+        SourceSigner(BlobServiceClient client, String sasToken) {
+            this.client = client;
+            this.sasToken = StringUtils.removeStart(sasToken, "?");
+            this.sharedKey = hasPolicy(client.getHttpPipeline(), StorageSharedKeyCredentialPolicy.class);
+            this.tokenCredential = hasPolicy(client.getHttpPipeline(), BearerTokenAuthenticationPolicy.class);
+        }
+
+        String url(BlobClient source, long size) {
+            if (this.sharedKey) {
+                return BlobCopyService.sasUrl(source, size);
+            }
+
+            if (this.tokenCredential) {
+                BlobServiceSasSignatureValues values = BlobCopyService.sasValues(size);
+                UserDelegationKey key = this.userDelegationKey(values.getExpiryTime());
+
+                if (values.getExpiryTime().isAfter(key.getSignedExpiry())) {
+                    values.setExpiryTime(key.getSignedExpiry());
+                }
+
+                return source.getBlobUrl() + "?" + source.generateUserDelegationSas(values, key);
+            }
+
+            return StringUtils.isNotEmpty(this.sasToken) ? source.getBlobUrl() + "?" + this.sasToken : source.getBlobUrl();
+        }
+
+        /**
+         * One key is requested for the whole move, and only renewed for a blob whose copy would outlive it.
+         */
+        private synchronized UserDelegationKey userDelegationKey(OffsetDateTime expiry) {
+            if (this.userDelegationKey == null || this.userDelegationKey.getSignedExpiry().isBefore(expiry)) {
+                OffsetDateTime now = OffsetDateTime.now();
+                OffsetDateTime keyExpiry = expiry.isAfter(now.plusHours(1)) ? expiry : now.plusHours(1);
+                OffsetDateTime maxExpiry = now.plusDays(USER_DELEGATION_KEY_MAX_DAYS).minusMinutes(1);
+
+                this.userDelegationKey = this.client.getUserDelegationKey(
+                    now.minusMinutes(5),
+                    keyExpiry.isAfter(maxExpiry) ? maxExpiry : keyExpiry
+                );
+            }
+
+            return this.userDelegationKey;
+        }
+
+        private static boolean hasPolicy(HttpPipeline pipeline, Class<? extends HttpPipelinePolicy> type) {
+            for (int i = 0; i < pipeline.getPolicyCount(); i++) {
+                if (type.isInstance(pipeline.getPolicy(i))) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
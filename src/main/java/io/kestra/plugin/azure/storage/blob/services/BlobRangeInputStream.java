@@ -0,0 +1,122 @@
+package io.kestra.plugin.azure.storage.blob.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.azure.core.util.Context;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reads a blob sequentially while prefetching the next ranges in parallel. At most {@code parallelism} ranges are in
+ * flight plus the one being read, so memory is bounded to {@code (parallelism + 1) * blockSize}. Ranges are requested
+ * with an {@code If-Match} on the ETag, a blob modified while being read fails the stream.
+ */
+public class BlobRangeInputStream extends InputStream {
+    private final BlobClient client;
+    private final BlobRequestConditions conditions;
+    private final long size;
+    private final int blockSize;
+    private final int parallelism;
+
+    private final Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+    private long nextOffset = 0;
+    private byte[] current;
+    private int position;
+
+    public BlobRangeInputStream(BlobClient client, String eTag, long size, int blockSize, int parallelism) {
+        this.client = client;
+        this.conditions = new BlobRequestConditions().setIfMatch(eTag);
+        this.size = size;
+        this.blockSize = blockSize;
+        this.parallelism = parallelism;
+
+        this.prefetch();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!this.advance()) {
+            return -1;
+        }
+
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        if (!this.advance()) {
+            return -1;
+        }
+
+        int read = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, read);
+        position += read;
+
+        return read;
+    }
+
+    @Override
+    public void close() {
+        pending.forEach(future -> future.cancel(true));
+        pending.clear();
+        current = null;
+    }
+
+    private boolean advance() throws IOException {
+        if (current != null && position < current.length) {
+            return true;
+        }
+
+        CompletableFuture<byte[]> next = pending.poll();
+        if (next == null) {
+            return false;
+        }
+
+        try {
+            current = next.join();
+        } catch (CompletionException e) {
+            throw new IOException("Unable to read '" + client.getBlobName() + "'", e.getCause());
+        }
+
+        position = 0;
+        this.prefetch();
+
+        return true;
+    }
+
+    private void prefetch() {
+        while (pending.size() < parallelism && nextOffset < size) {
+            long offset = nextOffset;
+            long length = Math.min(blockSize, size - offset);
+
+            pending.add(
+                Mono.fromCallable(() -> this.range(offset, length))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .toFuture()
+            );
+
+            nextOffset += length;
+        }
+    }
+
+    private byte[] range(long offset, long length) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) length);
+        client.downloadStreamWithResponse(out, new BlobRange(offset, length), null, conditions, false, null, Context.NONE);
+
+        return out.toByteArray();
+    }
+}
@@ -1,35 +1,59 @@
 package io.kestra.plugin.azure.storage.blob.services;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 import com.azure.core.credential.AzureNamedKeyCredential;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.util.Context;
 import com.azure.identity.DefaultAzureCredentialBuilder;
 import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.BlobDownloadResponse;
+import com.azure.storage.blob.models.BlobItem;
 import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.ListBlobsOptions;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.FileUtils;
+import io.kestra.core.utils.IdUtils;
 import io.kestra.plugin.azure.shared.AbstractConnectionInterface;
 import io.kestra.plugin.azure.shared.AzureClientWithSasInterface;
 import io.kestra.plugin.azure.storage.blob.Copy;
-import io.kestra.plugin.azure.storage.blob.Delete;
+import io.kestra.plugin.azure.shared.storage.blob.abstracts.ListInterface;
 import io.kestra.plugin.azure.storage.blob.abstracts.ActionInterface;
 import io.kestra.plugin.azure.shared.storage.blob.models.Blob;
 import io.kestra.plugin.azure.storage.services.ChecksumValidator;
+import io.kestra.plugin.azure.storage.services.ListingPosition;
 
 public class BlobService {
+    /**
+     * Maximum number of results the service returns in a single listing page.
+     */
+    public static final int MAX_PAGE_SIZE = 5000;
+
+    public static final int DEFAULT_DOWNLOAD_BLOCK_SIZE = 8 * 1024 * 1024;
+
+    public static final int DEFAULT_DOWNLOAD_CONCURRENCY = 4;
+
     public static Pair<BlobProperties, URI> download(RunContext runContext, BlobClient client) throws IOException {
         return download(runContext, client, null);
     }
@@ -39,22 +63,194 @@ public class BlobService {
         BlobClient client,
         ChecksumValidator.Options checksumOptions
     ) throws IOException {
-        File tempFile = runContext.workingDir().createTempFile(FileUtils.getExtension(client.getBlobName())).toFile();
-        BlobProperties blobProperties = client.downloadToFile(tempFile.getAbsolutePath(), true);
+        return download(runContext, client, checksumOptions, null, null);
+    }
+
+    /**
+     * Downloads a blob to the internal storage. The blob is streamed straight to the storage, with the next ranges
+     * prefetched in parallel in bounded memory and the checksum computed on the fly, so no local copy is written.
+     * Per-block validation needs random writes and still goes through a temporary file.
+     *
+     * @param blockSize size of each ranged request, defaults to {@link #DEFAULT_DOWNLOAD_BLOCK_SIZE}
+     * @param maxConcurrency number of ranges fetched in parallel, defaults to {@link #DEFAULT_DOWNLOAD_CONCURRENCY}
+     */
+    public static Pair<BlobProperties, URI> download(
+        RunContext runContext,
+        BlobClient client,
+        ChecksumValidator.Options checksumOptions,
+        Integer blockSize,
+        Integer maxConcurrency
+    ) throws IOException {
+        if (checksumOptions != null && checksumOptions.isPerBlock()) {
+            return downloadPerBlock(runContext, client, checksumOptions);
+        }
+
+        BlobProperties blobProperties = client.getProperties();
+        URI uri;
+        byte[] digest;
+
+        try (
+            InputStream blobStream = new BlobRangeInputStream(
+                client,
+                blobProperties.getETag(),
+                blobProperties.getBlobSize(),
+                blockSize != null ? blockSize : DEFAULT_DOWNLOAD_BLOCK_SIZE,
+                maxConcurrency != null ? maxConcurrency : DEFAULT_DOWNLOAD_CONCURRENCY
+            );
+            ChecksumValidator.HashingInputStream in = ChecksumValidator.hashing(blobStream, checksumOptions)
+        ) {
+            uri = runContext.storage().putFile(in, IdUtils.create() + FileUtils.getExtension(client.getBlobName()));
+            digest = in.digest();
+        }
 
         runContext.metric(Counter.of("file.size", blobProperties.getBlobSize()));
 
-        ChecksumValidator.verify(
+        ChecksumValidator.verifyDigest(
             runContext,
-            tempFile,
+            digest,
             blobProperties.getContentMd5(),
             checksumOptions,
             client.getBlobName()
         );
 
+        return Pair.of(blobProperties, uri);
+    }
+
+    private static Pair<BlobProperties, URI> downloadPerBlock(
+        RunContext runContext,
+        BlobClient client,
+        ChecksumValidator.Options checksumOptions
+    ) throws IOException {
+        File tempFile = runContext.workingDir().createTempFile(FileUtils.getExtension(client.getBlobName())).toFile();
+        BlobProperties blobProperties = client.getProperties();
+        BlobRequestConditions conditions = new BlobRequestConditions().setIfMatch(blobProperties.getETag());
+
+        ChecksumValidator.copyPerBlock(
+            runContext,
+            blobProperties.getBlobSize(),
+            (offset, length) ->
+            {
+                ByteArrayOutputStream out = new ByteArrayOutputStream((int) length);
+                BlobDownloadResponse response = client.downloadStreamWithResponse(out, new BlobRange(offset, length), null, conditions, true, null, Context.NONE);
+
+                return Pair.of(out.toByteArray(), response.getDeserializedHeaders().getContentMd5());
+            },
+            tempFile,
+            checksumOptions,
+            client.getBlobName()
+        );
+
+        runContext.metric(Counter.of("file.size", blobProperties.getBlobSize()));
+
         return Pair.of(blobProperties, runContext.storage().putFile(tempFile));
     }
 
+    /**
+     * Lists blobs page by page, passing each matching blob to the consumer and stopping once {@code maxFiles} blobs
+     * have been consumed. Without client-side filtering, pages are sized to the remaining count so a listing never
+     * overshoots. With a {@code regexp} or a filter dropping listed items, whole pages are read and the listing may
+     * stop inside a page; the returned token then also carries the position within that page, see {@link ListingPosition}.
+     *
+     * @return the continuation token resuming exactly after the last consumed blob, or {@code null} if the listing is complete
+     */
+    public static String list(
+        RunContext runContext,
+        BlobContainerClient containerClient,
+        ListInterface list,
+        String continuationToken,
+        Integer maxFiles,
+        Consumer<Blob> consumer
+    ) throws IllegalVariableEvaluationException {
+        return list(
+            runContext,
+            containerClient,
+            list,
+            runContext.render(list.getPrefix()).as(String.class).orElse(null),
+            continuationToken,
+            maxFiles,
+            consumer
+        );
+    }
+
+    /**
+     * Same as {@link #list(RunContext, BlobContainerClient, ListInterface, String, Integer, Consumer)} with an
+     * explicit prefix, overriding the one of the {@link ListInterface}.
+     */
+    public static String list(
+        RunContext runContext,
+        BlobContainerClient containerClient,
+        ListInterface list,
+        String prefix,
+        String continuationToken,
+        Integer maxFiles,
+        Consumer<Blob> consumer
+    ) throws IllegalVariableEvaluationException {
+        String delimiter = runContext.render(list.getDelimiter()).as(String.class).orElse(null);
+        String regexp = runContext.render(list.getRegexp()).as(String.class).orElse(null);
+        ListInterface.Filter filter = runContext.render(list.getFilter()).as(ListInterface.Filter.class).orElse(ListInterface.Filter.FILES);
+        Pattern pattern = regexp != null ? Pattern.compile(regexp) : null;
+
+        ListBlobsOptions options = new ListBlobsOptions().setPrefix(prefix);
+        PagedIterable<BlobItem> items = delimiter != null ?
+            containerClient.listBlobsByHierarchy(delimiter, options, null) :
+            containerClient.listBlobs(options, null);
+
+        // with client-side filtering, a page sized to the remaining count could hold a single match
+        boolean selective = pattern != null ||
+            filter == ListInterface.Filter.DIRECTORY ||
+            (filter == ListInterface.Filter.FILES && delimiter != null);
+
+        ListingPosition position = ListingPosition.decode(continuationToken);
+        String token = position.pageToken();
+        int offset = position.offset();
+        long remaining = maxFiles != null ? maxFiles : Long.MAX_VALUE;
+
+        do {
+            String pageToken = token;
+            int pageSize = selective || offset > 0 ? MAX_PAGE_SIZE : (int) Math.max(1, Math.min(remaining, MAX_PAGE_SIZE));
+            PagedResponse<BlobItem> page = items.iterableByPage(pageToken, pageSize).iterator().next();
+            List<BlobItem> values = page.getValue();
+
+            for (int index = offset; index < values.size(); index++) {
+                if (remaining == 0) {
+                    return new ListingPosition(pageToken, index).encode();
+                }
+
+                BlobItem item = values.get(index);
+                if (filter(item, filter) && (pattern == null || pattern.matcher(item.getName()).matches())) {
+                    consumer.accept(Blob.of(containerClient.getBlobContainerName(), item));
+                    remaining--;
+                }
+            }
+
+            offset = 0;
+            token = page.getContinuationToken();
+        } while (token != null && !token.isEmpty() && remaining > 0);
+
+        return token != null && !token.isEmpty() ? token : null;
+    }
+
+    private static boolean filter(BlobItem item, ListInterface.Filter filter) {
+        boolean directory = Boolean.TRUE.equals(item.isPrefix()) || item.getName().endsWith("/");
+
+        return switch (filter) {
+            case FILES -> !directory;
+            case DIRECTORY -> directory;
+            case BOTH -> true;
+        };
+    }
+
+    /**
+     * Downloads a blob to a temporary file of the working directory, without touching the internal storage nor the metrics
+     * so it can be called concurrently.
+     */
+    public static Pair<BlobProperties, File> downloadToTempFile(RunContext runContext, BlobClient client) throws IOException {
+        File tempFile = runContext.workingDir().createTempFile(FileUtils.getExtension(client.getBlobName())).toFile();
+        BlobProperties blobProperties = client.downloadToFile(tempFile.getAbsolutePath(), true);
+
+        return Pair.of(blobProperties, tempFile);
+    }
+
     public static void archive(
         List<Blob> blobsObjects,
         ActionInterface.Action action,
@@ -62,52 +258,40 @@ public class BlobService {
         RunContext runContext,
         AbstractConnectionInterface connectionInterface,
         AzureClientWithSasInterface blobStorageInterface) throws Exception {
+        if (action != ActionInterface.Action.DELETE && action != ActionInterface.Action.MOVE) {
+            return;
+        }
+
+        BlobServiceClient client = client(
+            connectionInterface.getEndpoint(),
+            blobStorageInterface.getConnectionString(),
+            blobStorageInterface.getSharedKeyAccountName(),
+            blobStorageInterface.getSharedKeyAccountAccessKey(),
+            blobStorageInterface.getSasToken(),
+            runContext
+        );
+
         if (action == ActionInterface.Action.DELETE) {
-            for (Blob object : blobsObjects) {
-                Delete delete = Delete.builder()
-                    .id("archive")
-                    .type(Delete.class.getName())
-                    .endpoint(connectionInterface.getEndpoint())
-                    .connectionString(blobStorageInterface.getConnectionString())
-                    .sharedKeyAccountName(blobStorageInterface.getSharedKeyAccountName())
-                    .sharedKeyAccountAccessKey(blobStorageInterface.getSharedKeyAccountAccessKey())
-                    .sasToken(blobStorageInterface.getSasToken())
-                    .container(Property.ofValue(object.getContainer()))
-                    .name(Property.ofValue(object.getName()))
-                    .build();
-                delete.run(runContext);
-            }
+            long size = BlobBatchService.delete(client, blobsObjects);
+
+            runContext.metric(Counter.of("archive.delete.count", blobsObjects.size()));
+            runContext.metric(Counter.of("archive.delete.size", size));
         } else if (action == ActionInterface.Action.MOVE) {
-            for (Blob object : blobsObjects) {
-                Copy copy = Copy.builder()
-                    .id("archive")
-                    .type(Copy.class.getName())
-                    .endpoint(connectionInterface.getEndpoint())
-                    .connectionString(blobStorageInterface.getConnectionString())
-                    .sharedKeyAccountName(blobStorageInterface.getSharedKeyAccountName())
-                    .sharedKeyAccountAccessKey(blobStorageInterface.getSharedKeyAccountAccessKey())
-                    .sasToken(blobStorageInterface.getSasToken())
-                    .from(
-                        Copy.CopyObject.builder()
-                            .container(Property.ofValue(object.getContainer()))
-                            .name(Property.ofValue(object.getName()))
-                            .build()
-                    )
-                    .to(
-                        moveTo.toBuilder()
-                            .container(Property.ofValue(object.getContainer()))
-                            .name(
-                                Property.ofValue(
-                                    StringUtils.stripEnd(runContext.render(moveTo.getName()).as(String.class).orElseThrow() + "/", "/")
-                                        + "/" + FilenameUtils.getName(object.getName())
-                                )
-                            )
-                            .build()
-                    )
-                    .delete(Property.ofValue(true))
-                    .build();
-                copy.run(runContext);
-            }
+            String toContainer = runContext.render(moveTo.getContainer()).as(String.class).orElse(null);
+            String toPrefix = StringUtils.stripEnd(runContext.render(moveTo.getName()).as(String.class).orElseThrow() + "/", "/");
+
+            List<Blob> moved = BlobMoveService.move(
+                client,
+                blobStorageInterface.getSasToken() != null ? runContext.render(blobStorageInterface.getSasToken()).as(String.class).orElse(null) : null,
+                blobsObjects,
+                blob -> new BlobMoveService.Target(
+                    toContainer != null ? toContainer : blob.getContainer(),
+                    toPrefix + "/" + FilenameUtils.getName(blob.getName())
+                ),
+                BlobMoveService.DEFAULT_CONCURRENCY
+            );
+
+            runContext.metric(Counter.of("archive.move.count", moved.size()));
         }
     }
 
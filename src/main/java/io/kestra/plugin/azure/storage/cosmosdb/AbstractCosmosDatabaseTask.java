@@ -1,16 +1,23 @@
 package io.kestra.plugin.azure.storage.cosmosdb;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.azure.cosmos.*;
+import com.azure.cosmos.models.CosmosContainerIdentity;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Output;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.azure.shared.AbstractAzureIdentityConnection;
+import io.kestra.plugin.azure.storage.cosmosdb.services.CosmosClientCache;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -23,7 +30,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 @EqualsAndHashCode
 @Getter
 @NoArgsConstructor
-public abstract class AbstractCosmosDatabaseTask<T extends Output> extends AbstractAzureIdentityConnection {
+public abstract class AbstractCosmosDatabaseTask<T extends Output> extends AbstractAzureIdentityConnection implements CosmosClientOptionsInterface {
     @Schema(
         title = "Choose request consistency",
         description = "Consistency level sent to Cosmos; defaults to SESSION."
@@ -62,47 +69,177 @@ public abstract class AbstractCosmosDatabaseTask<T extends Output> extends Abstr
     @PluginProperty(secret = true, group = "connection")
     protected Property<String> connectionString;
 
+    @Schema(
+        title = "Reuse the Cosmos client across task runs",
+        description = "When true (default), runs on the same worker with the same endpoint, credentials, consistency level and write payload option " +
+            "share one client, keeping its connections and metadata caches warm; when false, a client is created and closed for each run."
+    )
+    @Builder.Default()
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> reuseClient = Property.ofValue(true);
+
+    @Schema(
+        title = "Idle time before a shared client is closed",
+        description = "Only used when reuseClient is true."
+    )
+    @Builder.Default()
+    @PluginProperty(group = "advanced")
+    private Property<Duration> clientIdleTimeout = Property.ofValue(DEFAULT_CLIENT_IDLE_TIMEOUT);
+
+    @Schema(
+        title = "Containers to warm up",
+        description = "Container IDs of the database whose connections and address caches are opened when the client is created, " +
+            "so the first requests do not pay the connection setup."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<List<String>> warmUpContainers;
+
+    @Builder.Default()
+    private Property<ConnectionMode> connectionMode = Property.ofValue(ConnectionMode.DIRECT);
+
+    private Property<ConnectionPoolConfig> connectionPool;
+
+    private Property<List<String>> preferredRegions;
+
+    private Property<Boolean> endpointDiscoveryEnabled;
+
+    private Property<ThrottlingRetryConfig> throttlingRetry;
+
+    private Property<EndToEndLatencyPolicyConfig> endToEndLatencyPolicy;
+
     private static final ConsistencyLevel DEFAULT_CONSISTENCY_LEVEL = ConsistencyLevel.SESSION;
     private static final boolean DEFAULT_CONTENT_RESPONSE_ON_WRITE_ENABLED = true;
+    private static final Duration DEFAULT_CLIENT_IDLE_TIMEOUT = Duration.ofMinutes(10);
 
     public T run(RunContext runContext) throws Exception {
 
         String rDataBaseId = runContext.render(databaseId).as(String.class)
             .orElseThrow(() -> new IllegalVariableEvaluationException("database id needed"));
 
-        CosmosAsyncClient client = getClient(runContext);
-        try (client) {
-            return run(runContext, client.getDatabase(rDataBaseId));
+        try (CosmosClientCache.Lease lease = getClient(runContext, rDataBaseId)) {
+            return run(runContext, lease.client().getDatabase(rDataBaseId));
         }
     }
 
     protected abstract T run(RunContext runContext, CosmosAsyncDatabase cosmosDatabase) throws Exception;
 
-    private CosmosAsyncClient getClient(RunContext runContext) throws Exception {
-        Optional<String> rConnectionString = runContext.render(this.connectionString).as(String.class);
+    private CosmosClientCache.Lease getClient(RunContext runContext, String rDataBaseId) throws Exception {
+        ClientOptions options = new ClientOptions(
+            runContext.render(this.endpoint).as(String.class).orElse(null),
+            credentialsHash(runContext),
+            runContext.render(this.consistencyLevel).as(ConsistencyLevel.class).orElse(DEFAULT_CONSISTENCY_LEVEL),
+            runContext.render(this.contentResponseOnWriteEnabled).as(Boolean.class).orElse(DEFAULT_CONTENT_RESPONSE_ON_WRITE_ENABLED),
+            runContext.render(this.warmUpContainers).asList(String.class).stream().map(container -> rDataBaseId + "/" + container).toList(),
+            runContext.render(this.connectionMode).as(ConnectionMode.class).orElse(ConnectionMode.DIRECT),
+            runContext.render(this.connectionPool).as(ConnectionPoolConfig.class).orElse(null),
+            runContext.render(this.preferredRegions).asList(String.class),
+            runContext.render(this.endpointDiscoveryEnabled).as(Boolean.class).orElse(null),
+            runContext.render(this.throttlingRetry).as(ThrottlingRetryConfig.class).orElse(null),
+            runContext.render(this.endToEndLatencyPolicy).as(EndToEndLatencyPolicyConfig.class).orElse(null)
+        );
+
+        CosmosClientBuilder cosmosClientBuilder = getClientBuilder(runContext, options);
+
+        if (!runContext.render(reuseClient).as(Boolean.class).orElse(true)) {
+            return CosmosClientCache.unshared(cosmosClientBuilder.buildAsyncClient());
+        }
+
+        return CosmosClientCache.acquire(
+            options,
+            runContext.render(clientIdleTimeout).as(Duration.class).orElse(DEFAULT_CLIENT_IDLE_TIMEOUT),
+            cosmosClientBuilder::buildAsyncClient
+        );
+    }
 
-        ConsistencyLevel rConsistencyLevel = runContext.render(this.consistencyLevel)
-            .as(ConsistencyLevel.class)
-            .orElse(DEFAULT_CONSISTENCY_LEVEL);
+    /**
+     * Identifies the credentials (including the connection string endpoint) in the cache key without keeping the secrets themselves.
+     */
+    private String credentialsHash(RunContext runContext) throws Exception {
+        String credentials = String.join(
+            "\n",
+            runContext.render(this.connectionString).as(String.class).orElse(""),
+            runContext.render(this.getTenantId()).as(String.class).orElse(""),
+            runContext.render(this.getClientId()).as(String.class).orElse(""),
+            runContext.render(this.getClientSecret()).as(String.class).orElse(""),
+            runContext.render(this.getPemCertificate()).as(String.class).orElse("")
+        );
+
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(credentials.getBytes(StandardCharsets.UTF_8)));
+    }
 
-        boolean rContentResponseOnWriteEnabled = runContext.render(contentResponseOnWriteEnabled).as(Boolean.class)
-            .orElse(DEFAULT_CONTENT_RESPONSE_ON_WRITE_ENABLED);
+    /**
+     * The rendered client settings, also used as the key of the shared client.
+     */
+    private record ClientOptions(
+        String endpoint,
+        String credentials,
+        ConsistencyLevel consistencyLevel,
+        boolean contentResponseOnWriteEnabled,
+        List<String> warmUpContainers,
+        ConnectionMode connectionMode,
+        ConnectionPoolConfig connectionPool,
+        List<String> preferredRegions,
+        Boolean endpointDiscoveryEnabled,
+        ThrottlingRetryConfig throttlingRetry,
+        EndToEndLatencyPolicyConfig endToEndLatencyPolicy
+    ) {
+    }
+
+    private CosmosClientBuilder getClientBuilder(RunContext runContext, ClientOptions options) throws Exception {
+        Optional<String> rConnectionString = runContext.render(this.connectionString).as(String.class);
 
         CosmosClientBuilder cosmosClientBuilder = new CosmosClientBuilder()
-            .consistencyLevel(rConsistencyLevel)
-            .contentResponseOnWriteEnabled(rContentResponseOnWriteEnabled);
+            .consistencyLevel(options.consistencyLevel())
+            .contentResponseOnWriteEnabled(options.contentResponseOnWriteEnabled());
 
         if (rConnectionString.isPresent()) {
             cosmosClientBuilder
                 .endpoint(StringUtils.substringBetween(rConnectionString.get(), "AccountEndpoint=", ";"))
                 .key(StringUtils.substringBetween(rConnectionString.get(), "AccountKey=", ";"));
         } else {
-            String rEndPoint = runContext.render(this.endpoint).as(String.class)
+            String rEndPoint = Optional.ofNullable(options.endpoint())
                 .orElseThrow(() -> new Exception("Endpoint or ConnectionString needed"));
             cosmosClientBuilder.endpoint(rEndPoint);
             cosmosClientBuilder.credential(credentials(runContext));
         }
 
-        return cosmosClientBuilder.buildAsyncClient();
+        ConnectionPoolConfig connectionPool = Optional.ofNullable(options.connectionPool())
+            .orElse(new ConnectionPoolConfig(null, null, null, null, null));
+        if (options.connectionMode() == ConnectionMode.GATEWAY) {
+            cosmosClientBuilder.gatewayMode(connectionPool.toGatewayConnectionConfig());
+        } else {
+            cosmosClientBuilder.directMode(connectionPool.toDirectConnectionConfig());
+        }
+
+        if (!options.preferredRegions().isEmpty()) {
+            cosmosClientBuilder.preferredRegions(options.preferredRegions());
+        }
+
+        if (options.endpointDiscoveryEnabled() != null) {
+            cosmosClientBuilder.endpointDiscoveryEnabled(options.endpointDiscoveryEnabled());
+        }
+
+        if (options.throttlingRetry() != null) {
+            cosmosClientBuilder.throttlingRetryOptions(options.throttlingRetry().toThrottlingRetryOptions());
+        }
+
+        if (options.endToEndLatencyPolicy() != null) {
+            cosmosClientBuilder.endToEndOperationLatencyPolicyConfig(options.endToEndLatencyPolicy().toAzureConfig());
+        }
+
+        if (!options.warmUpContainers().isEmpty()) {
+            cosmosClientBuilder.openConnectionsAndInitCaches(
+                new CosmosContainerProactiveInitConfigBuilder(
+                    options.warmUpContainers().stream()
+                        .map(container -> new CosmosContainerIdentity(
+                            StringUtils.substringBefore(container, "/"),
+                            StringUtils.substringAfter(container, "/")
+                        ))
+                        .toList()
+                ).build()
+            );
+        }
+
+        return cosmosClientBuilder;
     }
 }
@@ -0,0 +1,448 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import com.azure.cosmos.CosmosAsyncContainer;
+import com.azure.cosmos.CosmosException;
+import com.azure.cosmos.models.*;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Data;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: azure_cosmos_container_bulk_upsert
+                namespace: company.team
+
+                inputs:
+                  - id: file
+                    type: FILE
+
+                tasks:
+                  - id: bulk
+                    type: io.kestra.plugin.azure.storage.cosmosdb.Bulk
+                    endpoint: "https://yourcosmosaccount.documents.azure.com"
+                    databaseId: your_data_base_id
+                    containerId: your_container_id
+                    tenantId: "{{ secret('AZURE_TENANT_ID') }}"
+                    clientId: "{{ secret('AZURE_CLIENT_ID') }}"
+                    clientSecret: "{{ secret('AZURE_CLIENT_SECRET') }}"
+                    from: "{{ inputs.file }}"
+                    operationType: UPSERT
+                    partitionKeyDefinition:
+                      paths: ["/region"]
+                      kind: HASH
+                      version: V2
+                """
+        ),
+        @Example(
+            title = "Delete the documents listed in an Ion file, keeping at most 2 groups of 500 operations in flight.",
+            full = true,
+            code = """
+                id: azure_cosmos_container_bulk_delete
+                namespace: company.team
+
+                tasks:
+                  - id: bulk
+                    type: io.kestra.plugin.azure.storage.cosmosdb.Bulk
+                    connectionString: "{{ secret('COSMOS_CONNECTION_STRING') }}"
+                    databaseId: your_data_base_id
+                    containerId: your_container_id
+                    from: "{{ outputs.extract.uri }}"
+                    operationType: DELETE
+                    batchSize: 500
+                    concurrency: 2
+                    partitionKeyDefinition:
+                      paths: ["/region"]
+                      kind: HASH
+                      version: V2
+                """
+        )
+    },
+    metrics = {
+        @Metric(name = "records.count", type = Counter.TYPE, description = "The total number of operations sent in the bulk execution."),
+        @Metric(name = "records.failed", type = Counter.TYPE, description = "The number of operations that failed and were written to the errors file."),
+        @Metric(name = "records.throughput", type = Counter.TYPE, description = "The number of operations processed per second."),
+        @Metric(name = "request.charge", type = Counter.TYPE, description = "The request units consumed by the bulk execution."),
+        @Metric(name = "duration", type = Timer.TYPE, description = "The duration of the bulk execution.")
+    }
+)
+@Schema(
+    title = "Bulk write Cosmos documents",
+    description = "Streams documents from internal storage (or an inline list) through the Cosmos bulk executor to create, upsert, replace, patch or delete them. " +
+        "Operations are sent by groups of `batchSize` with at most `concurrency` groups in flight; throttled (429) operations are retried after the " +
+        "longest `retryAfter` returned by Cosmos for them, and operations that still fail, as well as records that are not documents or miss the `id` " +
+        "required by the operation, are written to the `errors` file instead of failing the task."
+)
+public class Bulk extends AbstractCosmosContainerTask<Bulk.Output> implements RunnableTask<Bulk.Output>, Data.From {
+    private static final int THROTTLED_STATUS_CODE = 429;
+
+    @Schema(
+        title = Data.From.TITLE,
+        description = Data.From.DESCRIPTION + " Each record is a document; `DELETE` and `PATCH` only need its `id` and partition key fields.",
+        anyOf = { String.class, List.class, Map.class }
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Object from;
+
+    @Schema(
+        title = "Operation applied to every record",
+        description = "`PATCH` sets each top-level field of the record other than `id` and the partition key; Cosmos accepts at most 10 fields per patch."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<OperationType> operationType = Property.ofValue(OperationType.UPSERT);
+
+    @Schema(
+        title = "Partition key definition (paths, kind, version)",
+        description = "Container partition key schema used to extract the partition key of each record."
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<PartitionKeyDefinition> partitionKeyDefinition;
+
+    @Schema(
+        title = "Number of operations sent in one bulk execution"
+    )
+    @Min(1)
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> batchSize = Property.ofValue(1000);
+
+    @Schema(
+        title = "Number of bulk executions in flight",
+        description = "Bounds the memory used and the request units consumed at once."
+    )
+    @Min(1)
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Schema(
+        title = "Number of times a throttled operation is retried",
+        description = "Applies on top of the retries done by the Cosmos SDK; each retry waits for the `retryAfter` duration returned by Cosmos."
+    )
+    @Min(0)
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> maxRetries = Property.ofValue(5);
+
+    @Override
+    protected Output run(RunContext runContext, CosmosAsyncContainer cosmosContainer) throws Exception {
+        OperationType rOperationType = runContext.render(operationType).as(OperationType.class).orElse(OperationType.UPSERT);
+        com.azure.cosmos.models.PartitionKeyDefinition rPartitionKeyDefinition = runContext.render(partitionKeyDefinition)
+            .as(PartitionKeyDefinition.class)
+            .orElseThrow(() -> new IllegalVariableEvaluationException("partitionKeyDefinition needed"))
+            .toAzurePartitionKeyDefinition();
+        int rBatchSize = runContext.render(batchSize).as(Integer.class).orElse(1000);
+        int rConcurrency = runContext.render(concurrency).as(Integer.class).orElse(4);
+        int rMaxRetries = runContext.render(maxRetries).as(Integer.class).orElse(5);
+
+        AtomicLong count = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        DoubleAdder requestCharge = new DoubleAdder();
+        long start = System.nanoTime();
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
+            Data.from(this.from)
+                .read(runContext)
+                .map(row -> item(rOperationType, row, rPartitionKeyDefinition))
+                .buffer(rBatchSize)
+                .flatMap(
+                    items -> Flux.concat(
+                        Flux.fromIterable(items)
+                            .filter(item -> item.failure() != null)
+                            .map(item -> new Outcome(0D, item.failure())),
+                        this.execute(
+                            cosmosContainer,
+                            items.stream().map(Item::operation).filter(Objects::nonNull).toList(),
+                            0,
+                            rMaxRetries
+                        ).map(Bulk::outcome)
+                    ),
+                    rConcurrency
+                )
+                .doOnNext(throwConsumer(outcome ->
+                {
+                    count.incrementAndGet();
+                    requestCharge.add(outcome.requestCharge());
+
+                    if (outcome.failure() != null) {
+                        failed.incrementAndGet();
+                        FileSerde.write(output, outcome.failure());
+                    }
+                }))
+                .blockLast();
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        String rContainer = cosmosContainer.getId();
+
+        runContext.metric(Counter.of("records.count", count.get(), "container", rContainer));
+        runContext.metric(Counter.of("records.failed", failed.get(), "container", rContainer));
+        runContext.metric(Counter.of("request.charge", requestCharge.sum(), "container", rContainer));
+        runContext.metric(Timer.of("duration", duration, "container", rContainer));
+        runContext.metric(Counter.of("records.throughput", count.get() * 1_000_000_000d / Math.max(duration.toNanos(), 1), "container", rContainer));
+
+        URI errors = null;
+        if (failed.get() > 0) {
+            runContext.logger().warn("{} of {} bulk operations failed, see the errors file", failed.get(), count.get());
+            errors = runContext.storage().putFile(tempFile);
+        }
+
+        return Output.builder()
+            .count(count.get())
+            .failed(failed.get())
+            .requestCharge(requestCharge.sum())
+            .errors(errors)
+            .build();
+    }
+
+    /**
+     * Runs the operations through the bulk executor. The operations still throttled once the SDK retries are exhausted
+     * are resubmitted together, as a single bulk execution, after the longest {@code retryAfter} returned for them.
+     */
+    private Flux<CosmosBulkOperationResponse<Object>> execute(
+        CosmosAsyncContainer cosmosContainer,
+        List<CosmosItemOperation> operations,
+        int attempt,
+        int maxRetries
+    ) {
+        if (operations.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return cosmosContainer.<Object>executeBulkOperations(Flux.fromIterable(operations))
+            .collectList()
+            .flatMapMany(responses ->
+            {
+                List<CosmosBulkOperationResponse<Object>> throttled = attempt < maxRetries
+                    ? responses.stream().filter(Bulk::isThrottled).toList()
+                    : List.of();
+
+                if (throttled.isEmpty()) {
+                    return Flux.fromIterable(responses);
+                }
+
+                Duration retryAfter = throttled.stream()
+                    .map(Bulk::retryAfter)
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow();
+
+                return Flux.concat(
+                    Flux.fromIterable(responses).filter(response -> !isThrottled(response)),
+                    Mono.delay(retryAfter).thenMany(this.execute(
+                        cosmosContainer,
+                        throttled.stream().map(CosmosBulkOperationResponse::getOperation).toList(),
+                        attempt + 1,
+                        maxRetries
+                    ))
+                );
+            });
+    }
+
+    /**
+     * Maps a record to its operation, or to the failure written to the errors file when it is not a document or
+     * misses a field required by the operation.
+     */
+    private static Item item(
+        OperationType operationType,
+        Object row,
+        com.azure.cosmos.models.PartitionKeyDefinition partitionKeyDefinition
+    ) {
+        try {
+            return new Item(operation(operationType, row, partitionKeyDefinition), null);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> failure = new LinkedHashMap<>();
+
+            failure.put("operationType", operationType.name());
+            if (row instanceof Map<?, ?> map && map.get("id") != null) {
+                failure.put("id", map.get("id").toString());
+            }
+            failure.put("message", e.getMessage());
+
+            return new Item(null, failure);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CosmosItemOperation operation(
+        OperationType operationType,
+        Object row,
+        com.azure.cosmos.models.PartitionKeyDefinition partitionKeyDefinition
+    ) {
+        if (!(row instanceof Map<?, ?>)) {
+            throw new IllegalArgumentException("Invalid type '" + (row != null ? row.getClass() : null) + "' on '" + row + "'");
+        }
+
+        Map<String, Object> item = (Map<String, Object>) row;
+        PartitionKey partitionKey = PartitionKey.fromItem(item, partitionKeyDefinition);
+
+        return switch (operationType) {
+            case CREATE -> CosmosBulkOperations.getCreateItemOperation(item, partitionKey);
+            case UPSERT -> CosmosBulkOperations.getUpsertItemOperation(item, partitionKey);
+            case REPLACE -> CosmosBulkOperations.getReplaceItemOperation(id(item), item, partitionKey);
+            case DELETE -> CosmosBulkOperations.getDeleteItemOperation(id(item), partitionKey);
+            case PATCH -> CosmosBulkOperations.getPatchItemOperation(id(item), partitionKey, patch(item, partitionKeyDefinition));
+        };
+    }
+
+    private static String id(Map<String, Object> item) {
+        Object id = item.get("id");
+
+        if (id == null) {
+            throw new IllegalArgumentException("Missing 'id' on '" + item + "'");
+        }
+
+        return id.toString();
+    }
+
+    private static CosmosPatchOperations patch(Map<String, Object> item, com.azure.cosmos.models.PartitionKeyDefinition partitionKeyDefinition) {
+        List<String> partitionKeyFields = partitionKeyDefinition.getPaths()
+            .stream()
+            .map(path -> path.substring(1).split("/")[0])
+            .toList();
+
+        CosmosPatchOperations patchOperations = CosmosPatchOperations.create();
+        item.forEach((key, value) ->
+        {
+            if (!key.equals("id") && !partitionKeyFields.contains(key)) {
+                patchOperations.set("/" + key, value);
+            }
+        });
+
+        return patchOperations;
+    }
+
+    private static boolean isSuccess(CosmosBulkOperationResponse<Object> response) {
+        return response.getException() == null && response.getResponse() != null && response.getResponse().isSuccessStatusCode();
+    }
+
+    private static boolean isThrottled(CosmosBulkOperationResponse<Object> response) {
+        if (response.getResponse() != null) {
+            return response.getResponse().getStatusCode() == THROTTLED_STATUS_CODE;
+        }
+
+        return response.getException() instanceof CosmosException cosmosException && cosmosException.getStatusCode() == THROTTLED_STATUS_CODE;
+    }
+
+    private static Duration retryAfter(CosmosBulkOperationResponse<Object> response) {
+        Duration retryAfter = null;
+
+        if (response.getResponse() != null) {
+            retryAfter = response.getResponse().getRetryAfterDuration();
+        } else if (response.getException() instanceof CosmosException cosmosException) {
+            retryAfter = cosmosException.getRetryAfterDuration();
+        }
+
+        return retryAfter == null || retryAfter.isZero() ? Duration.ofMillis(100) : retryAfter;
+    }
+
+    private static Outcome outcome(CosmosBulkOperationResponse<Object> response) {
+        return new Outcome(
+            response.getResponse() != null ? response.getResponse().getRequestCharge() : 0D,
+            isSuccess(response) ? null : failure(response)
+        );
+    }
+
+    private static Map<String, Object> failure(CosmosBulkOperationResponse<Object> response) {
+        CosmosItemOperation operation = response.getOperation();
+        Map<String, Object> failure = new LinkedHashMap<>();
+
+        failure.put("operationType", operation.getOperationType().name());
+        failure.put("id", operation.getId());
+        failure.put("partitionKey", String.valueOf(operation.getPartitionKeyValue()));
+
+        if (response.getResponse() != null) {
+            failure.put("statusCode", response.getResponse().getStatusCode());
+            failure.put("subStatusCode", response.getResponse().getSubStatusCode());
+        }
+
+        if (response.getException() != null) {
+            if (response.getException() instanceof CosmosException cosmosException) {
+                failure.put("statusCode", cosmosException.getStatusCode());
+                failure.put("subStatusCode", cosmosException.getSubStatusCode());
+            }
+            failure.put("message", response.getException().getMessage());
+        }
+
+        return failure;
+    }
+
+    private record Item(CosmosItemOperation operation, Map<String, Object> failure) {
+    }
+
+    private record Outcome(double requestCharge, Map<String, Object> failure) {
+    }
+
+    public enum OperationType {
+        CREATE,
+        UPSERT,
+        REPLACE,
+        PATCH,
+        DELETE
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Number of operations processed")
+        private final Long count;
+
+        @Schema(title = "Number of operations that failed")
+        private final Long failed;
+
+        @Schema(title = "Request units consumed")
+        private final Double requestCharge;
+
+        @Schema(
+            title = "URI of the failed operations",
+            description = "Ion file with the operation type, id, partition key, status code and message of each failed operation; only set when some operations failed."
+        )
+        private final URI errors;
+    }
+}
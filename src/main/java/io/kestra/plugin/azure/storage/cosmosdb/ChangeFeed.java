@@ -0,0 +1,210 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import com.azure.cosmos.CosmosAsyncContainer;
+import com.azure.cosmos.models.CosmosChangeFeedRequestOptions;
+import com.azure.cosmos.models.FeedRange;
+import com.azure.cosmos.models.FeedResponse;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: azure_cosmos_container_change_feed
+                namespace: company.team
+
+                tasks:
+                  - id: changes
+                    type: io.kestra.plugin.azure.storage.cosmosdb.ChangeFeed
+                    endpoint: "https://yourcosmosaccount.documents.azure.com"
+                    databaseId: your_data_base_id
+                    containerId: your_container_id
+                    tenantId: "{{ secret('AZURE_TENANT_ID') }}"
+                    clientId: "{{ secret('AZURE_CLIENT_ID') }}"
+                    clientSecret: "{{ secret('AZURE_CLIENT_SECRET') }}"
+                    startFrom: BEGINNING
+                """
+        )
+    },
+    metrics = {
+        @Metric(name = "records.count", type = Counter.TYPE, description = "The total number of changed documents read."),
+        @Metric(name = "request.charge", type = Counter.TYPE, description = "The request units consumed reading the change feed.")
+    }
+)
+@Schema(
+    title = "Read the Cosmos change feed",
+    description = "Reads the documents created or updated since the given continuation tokens with the change feed pull model. " +
+        "Each feed range (physical partition) of the container is read in parallel and the changes are written to an Ion file; " +
+        "the returned `continuationTokens` resume each feed range on the next run."
+)
+public class ChangeFeed extends AbstractCosmosContainerTask<ChangeFeed.Output> implements RunnableTask<ChangeFeed.Output> {
+    @Schema(
+        title = "Where to start reading when no continuation token is given"
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "source")
+    private Property<StartFrom> startFrom = Property.ofValue(StartFrom.NOW);
+
+    @Schema(
+        title = "Continuation token of each feed range",
+        description = "The `continuationTokens` output of a previous run, keyed by feed range."
+    )
+    @PluginProperty(group = "source")
+    private Property<Map<String, String>> continuationTokens;
+
+    @Schema(
+        title = "Maximum number of changes per page"
+    )
+    @Min(1)
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> maxItemCount = Property.ofValue(1000);
+
+    @Schema(
+        title = "Number of feed ranges read in parallel"
+    )
+    @Min(1)
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Override
+    protected Output run(RunContext runContext, CosmosAsyncContainer cosmosContainer) throws Exception {
+        StartFrom rStartFrom = runContext.render(startFrom).as(StartFrom.class).orElse(StartFrom.NOW);
+        Map<String, String> rContinuationTokens = runContext.render(continuationTokens).asMap(String.class, String.class);
+        int rMaxItemCount = runContext.render(maxItemCount).as(Integer.class).orElse(1000);
+        int rConcurrency = runContext.render(concurrency).as(Integer.class).orElse(4);
+
+        // a continuation token keeps following its feed range across partition splits, so the current feed ranges are
+        // only listed when there is no token to resume from
+        Map<String, CosmosChangeFeedRequestOptions> requests = new LinkedHashMap<>();
+        if (rContinuationTokens.isEmpty()) {
+            cosmosContainer.getFeedRanges()
+                .block()
+                .forEach(feedRange -> requests.put(feedRange.toString(), requestOptions(feedRange, rStartFrom)));
+        } else {
+            rContinuationTokens.forEach((key, token) -> requests.put(key, CosmosChangeFeedRequestOptions.createForProcessingFromContinuation(token)));
+        }
+
+        Map<String, String> nextTokens = new ConcurrentHashMap<>();
+        AtomicLong count = new AtomicLong();
+        DoubleAdder requestCharge = new DoubleAdder();
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
+            Flux.fromIterable(requests.entrySet())
+                .flatMap(request ->
+                {
+                    String key = request.getKey();
+                    CosmosChangeFeedRequestOptions options = request.getValue().setMaxItemCount(rMaxItemCount);
+                    AtomicReference<String> token = new AtomicReference<>(rContinuationTokens.get(key));
+
+                    return cosmosContainer.queryChangeFeed(options, Map.class)
+                        .byPage()
+                        .doOnNext(page ->
+                        {
+                            if (page.getContinuationToken() != null) {
+                                token.set(page.getContinuationToken());
+                            }
+                        })
+                        .doOnComplete(() ->
+                        {
+                            if (token.get() != null) {
+                                nextTokens.put(key, token.get());
+                            }
+                        });
+                }, rConcurrency)
+                .doOnNext(throwConsumer((FeedResponse<Map> page) ->
+                {
+                    requestCharge.add(page.getRequestCharge());
+
+                    for (Map item : page.getResults()) {
+                        FileSerde.write(output, item);
+                        count.incrementAndGet();
+                    }
+                }))
+                .blockLast();
+        }
+
+        runContext.metric(Counter.of("records.count", count.get(), "container", cosmosContainer.getId()));
+        runContext.metric(Counter.of("request.charge", requestCharge.sum(), "container", cosmosContainer.getId()));
+
+        return Output.builder()
+            .uri(count.get() > 0 ? runContext.storage().putFile(tempFile) : null)
+            .count(count.get())
+            .requestCharge(requestCharge.sum())
+            .continuationTokens(nextTokens)
+            .build();
+    }
+
+    private static CosmosChangeFeedRequestOptions requestOptions(FeedRange feedRange, StartFrom startFrom) {
+        return startFrom == StartFrom.BEGINNING ?
+            CosmosChangeFeedRequestOptions.createForProcessingFromBeginning(feedRange) :
+            CosmosChangeFeedRequestOptions.createForProcessingFromNow(feedRange);
+    }
+
+    public enum StartFrom {
+        BEGINNING,
+        NOW
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "URI of the Ion file containing the changed documents",
+            description = "Only set when changes were read."
+        )
+        private final URI uri;
+
+        @Schema(title = "Number of changed documents read")
+        private final Long count;
+
+        @Schema(title = "Request units consumed")
+        private final Double requestCharge;
+
+        @Schema(
+            title = "Continuation token of each feed range",
+            description = "Pass it as `continuationTokens` to read the next changes."
+        )
+        private final Map<String, String> continuationTokens;
+    }
+}
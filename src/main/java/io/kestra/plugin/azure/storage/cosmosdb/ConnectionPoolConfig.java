@@ -0,0 +1,61 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.time.Duration;
+
+import com.azure.cosmos.DirectConnectionConfig;
+import com.azure.cosmos.GatewayConnectionConfig;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record ConnectionPoolConfig(
+    @Schema(
+        title = "Maximum connections per backend endpoint",
+        description = "Direct mode only."
+    ) Integer maxConnectionsPerEndpoint,
+
+    @Schema(
+        title = "Maximum concurrent requests per connection",
+        description = "Direct mode only."
+    ) Integer maxRequestsPerConnection,
+
+    @Schema(
+        title = "Connection establishment timeout",
+        description = "Direct mode only."
+    ) Duration connectTimeout,
+
+    @Schema(
+        title = "Maximum HTTP connection pool size",
+        description = "Gateway mode only."
+    ) Integer maxConnectionPoolSize,
+
+    @Schema(
+        title = "Idle time before a connection is closed"
+    ) Duration idleConnectionTimeout) {
+    DirectConnectionConfig toDirectConnectionConfig() {
+        var directConnectionConfig = DirectConnectionConfig.getDefaultConfig();
+        if (maxConnectionsPerEndpoint != null) {
+            directConnectionConfig.setMaxConnectionsPerEndpoint(maxConnectionsPerEndpoint);
+        }
+        if (maxRequestsPerConnection != null) {
+            directConnectionConfig.setMaxRequestsPerConnection(maxRequestsPerConnection);
+        }
+        if (connectTimeout != null) {
+            directConnectionConfig.setConnectTimeout(connectTimeout);
+        }
+        if (idleConnectionTimeout != null) {
+            directConnectionConfig.setIdleConnectionTimeout(idleConnectionTimeout);
+        }
+        return directConnectionConfig;
+    }
+
+    GatewayConnectionConfig toGatewayConnectionConfig() {
+        var gatewayConnectionConfig = GatewayConnectionConfig.getDefaultConfig();
+        if (maxConnectionPoolSize != null) {
+            gatewayConnectionConfig.setMaxConnectionPoolSize(maxConnectionPoolSize);
+        }
+        if (idleConnectionTimeout != null) {
+            gatewayConnectionConfig.setIdleConnectionTimeout(idleConnectionTimeout);
+        }
+        return gatewayConnectionConfig;
+    }
+}
@@ -0,0 +1,52 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.util.List;
+
+import com.azure.cosmos.ConnectionMode;
+
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public interface CosmosClientOptionsInterface {
+    @Schema(
+        title = "Connection mode",
+        description = "DIRECT (default) connects over TCP to the replicas, GATEWAY sends HTTPS requests through the account gateway, which is simpler through firewalls."
+    )
+    @PluginProperty(group = "connection")
+    Property<ConnectionMode> getConnectionMode();
+
+    @Schema(
+        title = "Connection pool settings of the selected connection mode"
+    )
+    @PluginProperty(group = "advanced")
+    Property<ConnectionPoolConfig> getConnectionPool();
+
+    @Schema(
+        title = "Preferred regions",
+        description = "Regions (e.g. \"West Europe\") in order of preference for reads, and for writes on multi-region write accounts."
+    )
+    @PluginProperty(group = "connection")
+    Property<List<String>> getPreferredRegions();
+
+    @Schema(
+        title = "Discover the account regions",
+        description = "When true (default), the client discovers the account regions and fails over between them."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Boolean> getEndpointDiscoveryEnabled();
+
+    @Schema(
+        title = "Retries of throttled (429) requests"
+    )
+    @PluginProperty(group = "advanced")
+    Property<ThrottlingRetryConfig> getThrottlingRetry();
+
+    @Schema(
+        title = "End-to-end latency policy",
+        description = "Timeout of each operation, with an optional availability strategy hedging reads across preferred regions to cut tail latency."
+    )
+    @PluginProperty(group = "advanced")
+    Property<EndToEndLatencyPolicyConfig> getEndToEndLatencyPolicy();
+}
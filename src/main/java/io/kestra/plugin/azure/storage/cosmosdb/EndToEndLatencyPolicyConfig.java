@@ -0,0 +1,40 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.time.Duration;
+
+import com.azure.cosmos.CosmosEndToEndOperationLatencyPolicyConfig;
+import com.azure.cosmos.CosmosEndToEndOperationLatencyPolicyConfigBuilder;
+import com.azure.cosmos.ThresholdBasedAvailabilityStrategy;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+public record EndToEndLatencyPolicyConfig(
+    @NotNull
+    @Schema(
+        title = "End-to-end timeout of an operation",
+        description = "Includes all the retries; the operation fails once elapsed."
+    ) Duration timeout,
+
+    @Schema(
+        title = "Delay before hedging a read to the next preferred region",
+        description = "Enables the threshold-based availability strategy: reads not answered after this delay are also sent to the next preferred region " +
+            "and the first response wins. Requires several preferredRegions."
+    ) Duration threshold,
+
+    @Schema(
+        title = "Delay between the hedged requests to each following region",
+        description = "Defaults to 100 milliseconds."
+    ) Duration thresholdStep) {
+    private static final Duration DEFAULT_THRESHOLD_STEP = Duration.ofMillis(100);
+
+    CosmosEndToEndOperationLatencyPolicyConfig toAzureConfig() {
+        var builder = new CosmosEndToEndOperationLatencyPolicyConfigBuilder(timeout);
+        if (threshold != null) {
+            builder.availabilityStrategy(
+                new ThresholdBasedAvailabilityStrategy(threshold, thresholdStep != null ? thresholdStep : DEFAULT_THRESHOLD_STEP)
+            );
+        }
+        return builder.build();
+    }
+}
@@ -1,5 +1,7 @@
 package io.kestra.plugin.azure.storage.cosmosdb;
 
+import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -13,17 +15,23 @@ import com.azure.cosmos.models.PartitionKey;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.azure.storage.cosmosdb.services.CosmosService;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -58,7 +66,35 @@ import io.kestra.core.models.annotations.PluginProperty;
                         partitionKey:
                           id: test
                 """
+        ),
+        @Example(
+            title = "Run two queries at a time, storing the large export in its own Ion file while the small lookup is returned inline.",
+            full = true,
+            code = """
+                id: azure_storage_cosmos_bounded_queries
+                namespace: company.team
+
+                tasks:
+                  - id: cosmos_queries
+                    type: io.kestra.plugin.azure.storage.cosmosdb.Queries
+                    connectionString: "{{ secret('COSMOS_CONNECTION_STRING') }}"
+                    databaseId: your_data_base_id
+                    containerId: your_container_id
+                    concurrency: 2
+                    queries:
+                      export:
+                        query: SELECT * FROM c
+                        fetchType: STORE
+                        maxDegreeOfParallelism: 4
+                        maxBufferedItemCount: 1000
+                      lookup:
+                        query: SELECT * FROM c WHERE c.id = 'test'
+                """
         )
+    },
+    metrics = {
+        @Metric(name = "records.count", type = Counter.TYPE, description = "The total number of documents returned by the queries."),
+        @Metric(name = "request.charge", type = Counter.TYPE, description = "The request units consumed by the queries.")
     }
 )
 @Schema(
@@ -76,24 +112,100 @@ public class Queries extends AbstractCosmosContainerTask<Queries.Output> impleme
     @PluginProperty(group = "main")
     private Property<Map<String, QueriesOptions>> queries;
 
+    @Schema(
+        title = "How to return the documents of each query",
+        description = "`FETCH` returns them in the `results` output, `STORE` writes each query page by page to its own Ion file in the internal storage, " +
+            "returned in the `uris` output, which is recommended for large result sets. Can be overridden per query."
+    )
+    @Builder.Default
+    @PluginProperty(group = "destination")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.FETCH);
+
+    @Schema(
+        title = "Maximum number of documents per page",
+        description = "Page size requested from Cosmos; defaults to the Cosmos dynamic page size."
+    )
+    @Min(1)
+    @PluginProperty(group = "advanced")
+    private Property<Integer> maxItemCount;
+
+    @Schema(
+        title = "Number of queries run in parallel",
+        description = "Bounds the request units consumed and the memory used at once."
+    )
+    @Min(1)
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
     @Override
     protected Output run(RunContext runContext, CosmosAsyncContainer cosmosContainer) throws Exception {
         Map<String, QueriesOptions> rQueries = runContext.render(queries).asMap(String.class, QueriesOptions.class);
+        FetchType rFetchType = runContext.render(fetchType).as(FetchType.class).orElse(FetchType.FETCH);
+        Integer rMaxItemCount = runContext.render(maxItemCount).as(Integer.class).orElse(null);
+        int rConcurrency = runContext.render(concurrency).as(Integer.class).orElse(4);
+
+        for (QueriesOptions options : rQueries.values()) {
+            FetchType queryFetchType = options.getFetchType() != null ? options.getFetchType() : rFetchType;
+
+            if (queryFetchType != FetchType.FETCH && queryFetchType != FetchType.STORE) {
+                throw new IllegalArgumentException("Unsupported fetchType '" + queryFetchType + "', only FETCH and STORE are supported");
+            }
+        }
 
-        Mono<Map<String, List<Map>>> results = Flux.fromIterable(rQueries.entrySet())
+        Mono<Map<String, CosmosService.QueryResult>> results = Flux.fromIterable(rQueries.entrySet())
             .flatMap(
-                entry -> Mono.fromCallable(() -> getRequestOptions(entry.getValue()))
-                    .flatMap(
-                        opts -> cosmosContainer
-                            .queryItems(entry.getValue().getQuery(), opts, Map.class)
-                            .collectList()
-                            .map(list -> Map.entry(entry.getKey(), list))
-                    )
+                entry -> Mono
+                    .fromCallable(() -> Map.entry(
+                        entry.getKey(),
+                        CosmosService.fetch(
+                            runContext,
+                            cosmosContainer,
+                            entry.getValue().getQuery(),
+                            getRequestOptions(entry.getValue()),
+                            entry.getValue().getFetchType() != null ? entry.getValue().getFetchType() : rFetchType,
+                            rMaxItemCount,
+                            null,
+                            null,
+                            null
+                        )
+                    ))
+                    .subscribeOn(Schedulers.boundedElastic()),
+                rConcurrency
             )
             .collectMap(Map.Entry::getKey, Map.Entry::getValue);
 
         try {
-            return new Output(results.block());
+            Map<String, CosmosService.QueryResult> rResults = results.block();
+
+            Map<String, List<Map>> rows = new HashMap<>();
+            Map<String, URI> uris = new HashMap<>();
+            long size = 0;
+            double requestCharge = 0;
+
+            // the queries only write their stored results to temporary files, the run context puts them on this thread
+            for (Map.Entry<String, CosmosService.QueryResult> entry : rResults.entrySet()) {
+                CosmosService.QueryResult result = CosmosService.store(runContext, entry.getValue());
+
+                if (result.getRows() != null) {
+                    rows.put(entry.getKey(), result.getRows());
+                }
+                if (result.getUri() != null) {
+                    uris.put(entry.getKey(), result.getUri());
+                }
+                size += result.getSize();
+                requestCharge += result.getRequestCharge();
+            }
+
+            runContext.metric(Counter.of("records.count", size, "container", cosmosContainer.getId()));
+            runContext.metric(Counter.of("request.charge", requestCharge, "container", cosmosContainer.getId()));
+
+            return new Output(
+                rows.isEmpty() ? null : rows,
+                uris.isEmpty() ? null : uris,
+                size,
+                requestCharge
+            );
         } catch (Exception e) {
             log.error("Failed to run Queries: {}", rQueries, e);
             if (e.getCause() != null && e.getCause() instanceof Exception) {
@@ -146,6 +258,14 @@ public class Queries extends AbstractCosmosContainerTask<Queries.Output> impleme
             queryRequestOptions.setExcludedRegions(options.excludeRegions);
         }
 
+        if (options.maxDegreeOfParallelism != null) {
+            queryRequestOptions.setMaxDegreeOfParallelism(options.maxDegreeOfParallelism);
+        }
+
+        if (options.maxBufferedItemCount != null) {
+            queryRequestOptions.setMaxBufferedItemCount(options.maxBufferedItemCount);
+        }
+
         return queryRequestOptions;
     }
 
@@ -187,10 +307,34 @@ public class Queries extends AbstractCosmosContainerTask<Queries.Output> impleme
             requiredProperties = "partitionKeyDefinition"
         )
         private Map<String, Object> feedRangePartitionKey;
+
+        @Schema(
+            title = "Number of partitions queried in parallel",
+            description = "Cross-partition queries only; -1 lets the SDK choose, 0 queries the partitions one by one."
+        )
+        private Integer maxDegreeOfParallelism;
+
+        @Schema(
+            title = "Maximum number of documents buffered client-side",
+            description = "Cross-partition queries only; bounds the memory used while partitions are queried in parallel."
+        )
+        private Integer maxBufferedItemCount;
+
+        @Schema(
+            title = "How to return the documents of this query",
+            description = "Overrides the task `fetchType` for this query: `FETCH` returns them in `results`, `STORE` in its own Ion file in `uris`."
+        )
+        private FetchType fetchType;
     }
 
     public record Output(
-        @Schema(title = "Results")
-        Map<String, List<Map>> results) implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Results", description = "Documents of each query fetched inline, by label.")
+        Map<String, List<Map>> results,
+        @Schema(title = "URIs of the Ion files containing the results", description = "One file per label of each query stored in the internal storage.")
+        Map<String, URI> uris,
+        @Schema(title = "Number of documents returned by all the queries")
+        long size,
+        @Schema(title = "Request units consumed by all the queries")
+        double requestCharge) implements io.kestra.core.models.tasks.Output {
     }
 }
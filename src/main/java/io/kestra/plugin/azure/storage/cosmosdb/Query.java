@@ -1,5 +1,6 @@
 package io.kestra.plugin.azure.storage.cosmosdb;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -14,9 +15,12 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.azure.storage.cosmosdb.services.CosmosService;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -52,10 +56,83 @@ import io.kestra.core.models.annotations.PluginProperty;
                     partitionKey:
                       region: europe
                 """
+        ),
+        @Example(
+            title = "Export a whole container to an Ion file in the internal storage, 1000 documents per page.",
+            full = true,
+            code = """
+                id: azure_storage_cosmos_export
+                namespace: company.team
+
+                tasks:
+                  - id: export
+                    type: io.kestra.plugin.azure.storage.cosmosdb.Query
+                    connectionString: "{{ secret('COSMOS_CONNECTION_STRING') }}"
+                    databaseId: your_data_base_id
+                    containerId: your_container_id
+                    query: "SELECT * FROM c"
+                    fetchType: STORE
+                    maxItemCount: 1000
+                """
+        ),
+        @Example(
+            title = "Export a container over several executions, each one consuming at most 5000 RU, and resume from the previous continuation token.",
+            full = true,
+            code = """
+                id: azure_storage_cosmos_sliced_export
+                namespace: company.team
+
+                inputs:
+                  - id: continuationToken
+                    type: STRING
+                    required: false
+
+                tasks:
+                  - id: export
+                    type: io.kestra.plugin.azure.storage.cosmosdb.Query
+                    connectionString: "{{ secret('COSMOS_CONNECTION_STRING') }}"
+                    databaseId: your_data_base_id
+                    containerId: your_container_id
+                    query: "SELECT * FROM c"
+                    fetchType: STORE
+                    maxItemCount: 1000
+                    maxRequestCharge: 5000
+                    continuationToken: "{{ inputs.continuationToken }}"
+                """
+        ),
+        @Example(
+            title = "Read from the closest region, hedging slow reads to the next preferred region after 500ms.",
+            full = true,
+            code = """
+                id: azure_storage_cosmos_low_latency_query
+                namespace: company.team
+
+                tasks:
+                  - id: query
+                    type: io.kestra.plugin.azure.storage.cosmosdb.Query
+                    connectionString: "{{ secret('COSMOS_CONNECTION_STRING') }}"
+                    databaseId: your_data_base_id
+                    containerId: your_container_id
+                    query: "SELECT * FROM c WHERE c.region = 'europe'"
+                    connectionMode: DIRECT
+                    connectionPool:
+                      maxConnectionsPerEndpoint: 50
+                      idleConnectionTimeout: PT10M
+                    preferredRegions:
+                      - West Europe
+                      - North Europe
+                    throttlingRetry:
+                      maxRetryAttempts: 5
+                      maxRetryWaitTime: PT10S
+                    endToEndLatencyPolicy:
+                      timeout: PT3S
+                      threshold: PT0.5S
+                """
         )
     },
     metrics = {
-        @Metric(name = "records.count", type = Counter.TYPE, description = "The total number of entities processed in the bulk operation.")
+        @Metric(name = "records.count", type = Counter.TYPE, description = "The total number of documents returned by the query."),
+        @Metric(name = "request.charge", type = Counter.TYPE, description = "The request units consumed by the query.")
     }
 )
 @Schema(
@@ -109,8 +186,48 @@ public class Query extends AbstractCosmosContainerTask<Query.Output> implements
     @PluginProperty(group = "connection")
     private Property<Map<String, Object>> feedRangePartitionKey;
 
+    @Schema(
+        title = "How to return the documents",
+        description = "`FETCH` returns them in the `queryResults` output, `FETCH_ONE` only the first one in `row`, " +
+            "`STORE` writes them page by page to an Ion file in the internal storage, which is recommended for large result sets, and `NONE` only counts them."
+    )
+    @Builder.Default
+    @PluginProperty(group = "destination")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.FETCH);
+
+    @Schema(
+        title = "Maximum number of documents per page",
+        description = "Page size requested from Cosmos; defaults to the Cosmos dynamic page size."
+    )
+    @Min(1)
+    @PluginProperty(group = "advanced")
+    private Property<Integer> maxItemCount;
+
+    @Schema(
+        title = "Continuation token to resume the query from",
+        description = "The `continuationToken` output of a previous run of the same query."
+    )
+    @PluginProperty(group = "source")
+    private Property<String> continuationToken;
+
+    @Schema(
+        title = "Maximum number of pages read in one run",
+        description = "The query stops after this number of pages and returns a `continuationToken` to resume it."
+    )
+    @Min(1)
+    @PluginProperty(group = "execution")
+    private Property<Integer> maxPages;
+
+    @Schema(
+        title = "Maximum request units consumed in one run",
+        description = "The query stops after the page that reaches this request charge and returns a `continuationToken` to resume it, " +
+            "so a large export can be split over several executions using a bounded slice of the provisioned throughput."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Double> maxRequestCharge;
+
     @Override
-    protected Output run(RunContext runContext, CosmosAsyncContainer cosmosContainer) throws IllegalVariableEvaluationException {
+    protected Output run(RunContext runContext, CosmosAsyncContainer cosmosContainer) throws Exception {
         String rQuery = runContext.render(query).as(String.class).orElseThrow(
             () -> new RuntimeException("Missing required query field")
         );
@@ -166,16 +283,60 @@ public class Query extends AbstractCosmosContainerTask<Query.Output> implements
 
         });
 
+        FetchType rFetchType = runContext.render(fetchType).as(FetchType.class).orElse(FetchType.FETCH);
+        Integer rMaxItemCount = runContext.render(maxItemCount).as(Integer.class).orElse(null);
+        String rContinuationToken = runContext.render(continuationToken).as(String.class).orElse(null);
+        Integer rMaxPages = runContext.render(maxPages).as(Integer.class).orElse(null);
+        Double rMaxRequestCharge = runContext.render(maxRequestCharge).as(Double.class).orElse(null);
+
+        CosmosService.QueryResult result = CosmosService.query(
+            runContext,
+            cosmosContainer,
+            rQuery,
+            options,
+            rFetchType,
+            rMaxItemCount,
+            rContinuationToken,
+            rMaxPages,
+            rMaxRequestCharge
+        );
+
+        runContext.metric(Counter.of("records.count", result.getSize(), "container", cosmosContainer.getId()));
+        runContext.metric(Counter.of("request.charge", result.getRequestCharge(), "container", cosmosContainer.getId()));
+
+        if (result.getContinuationToken() != null) {
+            runContext.logger().info(
+                "Query stopped after {} pages and {} RU, use the continuationToken output to read the next documents",
+                result.getPages(),
+                result.getRequestCharge()
+            );
+        }
+
         return new Output(
-            cosmosContainer.queryItems(rQuery, options, Map.class).byPage()
-                .flatMapIterable(FeedResponse::getResults)
-                .collectList()
-                .block()
+            result.getRows(),
+            result.getRow(),
+            result.getUri(),
+            result.getSize(),
+            result.getRequestCharge(),
+            result.getContinuationToken()
         );
     }
 
     public record Output(
-        @Schema(title = "Query results")
-        List<Map> queryResults) implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Query results", description = "Only set when `fetchType` is `FETCH`.")
+        List<Map> queryResults,
+        @Schema(title = "First query result", description = "Only set when `fetchType` is `FETCH_ONE`.")
+        Map row,
+        @Schema(title = "URI of the Ion file containing the query results", description = "Only set when `fetchType` is `STORE`.")
+        URI uri,
+        @Schema(title = "Number of documents returned")
+        long size,
+        @Schema(title = "Request units consumed")
+        double requestCharge,
+        @Schema(
+            title = "Continuation token of the next page",
+            description = "Set when the query stopped at `maxPages` or `maxRequestCharge` before the end; pass it as `continuationToken` to resume the query."
+        )
+        String continuationToken) implements io.kestra.core.models.tasks.Output {
     }
 }
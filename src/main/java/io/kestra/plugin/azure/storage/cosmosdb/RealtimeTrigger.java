@@ -0,0 +1,221 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+import com.azure.cosmos.ConnectionMode;
+import com.azure.cosmos.CosmosException;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.*;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Consume Cosmos document changes in real time",
+    description = "Continuously reads the container change feed, waiting `pollInterval` once caught up, and fires one execution per batch of changes " +
+        "with an Ion file of the documents created or updated. Feed ranges are read in parallel and the continuation token of each one is " +
+        "kept in the trigger state after each batch, so a restarted trigger resumes where it stopped. Transient errors (timeouts, throttling, " +
+        "unavailable or moved partitions) are retried with a backoff from the last stored tokens."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: cosmos_realtime_changes
+                namespace: company.team
+
+                tasks:
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.count }} documents changed: {{ trigger.uri }}"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.azure.storage.cosmosdb.RealtimeTrigger
+                    connectionString: "{{ secret('COSMOS_CONNECTION_STRING') }}"
+                    databaseId: your_data_base_id
+                    containerId: your_container_id
+                """
+        )
+    }
+)
+public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerInterface, TriggerOutput<ChangeFeed.Output>, CosmosClientOptionsInterface {
+    @Schema(title = "Cosmos account endpoint")
+    @PluginProperty(group = "connection")
+    private Property<String> endpoint;
+
+    @Schema(title = "Cosmos connection string")
+    @PluginProperty(group = "connection", secret = true)
+    private Property<String> connectionString;
+
+    @Schema(title = "Azure Active Directory tenant ID used when authenticating without a connection string")
+    @PluginProperty(group = "connection")
+    private Property<String> tenantId;
+
+    @Schema(title = "Client ID for the Azure app registration used with tenantId")
+    @PluginProperty(group = "connection")
+    private Property<String> clientId;
+
+    @Schema(title = "Client secret for the Azure app registration; not needed when using pemCertificate")
+    @PluginProperty(group = "connection", secret = true)
+    private Property<String> clientSecret;
+
+    @Schema(title = "PEM certificate content for certificate-based authentication")
+    @PluginProperty(group = "advanced")
+    private Property<String> pemCertificate;
+
+    @Builder.Default
+    private Property<ConnectionMode> connectionMode = Property.ofValue(ConnectionMode.DIRECT);
+
+    private Property<ConnectionPoolConfig> connectionPool;
+
+    private Property<List<String>> preferredRegions;
+
+    private Property<Boolean> endpointDiscoveryEnabled;
+
+    private Property<ThrottlingRetryConfig> throttlingRetry;
+
+    private Property<EndToEndLatencyPolicyConfig> endToEndLatencyPolicy;
+
+    @NotNull
+    @Schema(title = "Database ID")
+    @PluginProperty(group = "main")
+    private Property<String> databaseId;
+
+    @NotNull
+    @Schema(title = "Container ID")
+    @PluginProperty(group = "main")
+    private Property<String> containerId;
+
+    @Schema(
+        title = "Where to start reading when the trigger has no state yet"
+    )
+    @Builder.Default
+    @PluginProperty(group = "source")
+    private Property<ChangeFeed.StartFrom> startFrom = Property.ofValue(ChangeFeed.StartFrom.NOW);
+
+    @Schema(
+        title = "Maximum number of changes per page"
+    )
+    @Min(1)
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> maxItemCount = Property.ofValue(1000);
+
+    @Schema(
+        title = "Number of feed ranges read in parallel"
+    )
+    @Min(1)
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Schema(
+        title = "Time to wait before reading the change feed again once caught up"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Duration> pollInterval = Property.ofValue(Duration.ofSeconds(5));
+
+    /**
+     * Status codes of the errors the service expects clients to retry: timeout, gone (partition split or moved),
+     * throttled, retry-with, internal error and unavailable.
+     */
+    private static final Set<Integer> TRANSIENT_STATUS_CODES = Set.of(408, 410, 429, 449, 500, 503);
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(5);
+
+    @Override
+    public Flux<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        Duration rPollInterval = runContext.render(pollInterval).as(Duration.class).orElse(Duration.ofSeconds(5));
+        String stateKey = StatefulTriggerService.defaultKey(context.getNamespace(), context.getFlowId(), id);
+
+        Trigger trigger = Trigger.builder()
+            .id(this.id)
+            .type(Trigger.class.getName())
+            .endpoint(this.endpoint)
+            .connectionString(this.connectionString)
+            .tenantId(this.tenantId)
+            .clientId(this.clientId)
+            .clientSecret(this.clientSecret)
+            .pemCertificate(this.pemCertificate)
+            .connectionMode(this.connectionMode)
+            .connectionPool(this.connectionPool)
+            .preferredRegions(this.preferredRegions)
+            .endpointDiscoveryEnabled(this.endpointDiscoveryEnabled)
+            .throttlingRetry(this.throttlingRetry)
+            .endToEndLatencyPolicy(this.endToEndLatencyPolicy)
+            .databaseId(this.databaseId)
+            .containerId(this.containerId)
+            .startFrom(this.startFrom)
+            .maxItemCount(this.maxItemCount)
+            .concurrency(this.concurrency)
+            .build();
+
+        AtomicReference<Map<String, String>> continuationTokens = new AtomicReference<>(
+            Trigger.continuationTokens(StatefulTriggerService.readState(runContext, stateKey, Optional.empty()))
+        );
+
+        return Mono
+            .fromCallable(() ->
+            {
+                ChangeFeed.Output output = trigger.changeFeed(continuationTokens.get()).run(runContext);
+
+                StatefulTriggerService.writeState(runContext, stateKey, Trigger.state(output), Optional.empty());
+                continuationTokens.set(output.getContinuationTokens());
+
+                return output;
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            // read again right away while changes come in, and only wait once the feed is caught up
+            .flatMap(output -> output.getCount() > 0 ? Mono.just(output) : Mono.delay(rPollInterval).then(Mono.<ChangeFeed.Output>empty()))
+            // a transient failure is retried from the last stored tokens instead of ending the trigger
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, rPollInterval.isZero() ? Duration.ofSeconds(1) : rPollInterval)
+                .maxBackoff(MAX_RETRY_BACKOFF)
+                .filter(RealtimeTrigger::isTransient)
+                .doBeforeRetry(signal -> runContext.logger().warn(
+                    "Unable to read the change feed, retrying (attempt {}): {}",
+                    signal.totalRetries() + 1,
+                    signal.failure().getMessage()
+                ))
+            )
+            .repeat()
+            .map(output -> TriggerService.generateRealtimeExecution(this, conditionContext, context, output));
+    }
+
+    static boolean isTransient(Throwable throwable) {
+        return ExceptionUtils.getThrowableList(throwable).stream().anyMatch(cause ->
+            cause instanceof TimeoutException ||
+                (cause instanceof CosmosException cosmosException && TRANSIENT_STATUS_CODES.contains(cosmosException.getStatusCode()))
+        );
+    }
+}
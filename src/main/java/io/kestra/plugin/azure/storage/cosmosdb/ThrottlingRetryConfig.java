@@ -0,0 +1,29 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.time.Duration;
+
+import com.azure.cosmos.ThrottlingRetryOptions;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record ThrottlingRetryConfig(
+    @Schema(
+        title = "Maximum retries of a throttled (429) request",
+        description = "Defaults to 9 in the Cosmos SDK."
+    ) Integer maxRetryAttempts,
+
+    @Schema(
+        title = "Maximum cumulative wait time across the retries of a throttled request",
+        description = "Defaults to 30 seconds in the Cosmos SDK."
+    ) Duration maxRetryWaitTime) {
+    ThrottlingRetryOptions toThrottlingRetryOptions() {
+        var throttlingRetryOptions = new ThrottlingRetryOptions();
+        if (maxRetryAttempts != null) {
+            throttlingRetryOptions.setMaxRetryAttemptsOnThrottledRequests(maxRetryAttempts);
+        }
+        if (maxRetryWaitTime != null) {
+            throttlingRetryOptions.setMaxRetryWaitTime(maxRetryWaitTime);
+        }
+        return throttlingRetryOptions;
+    }
+}
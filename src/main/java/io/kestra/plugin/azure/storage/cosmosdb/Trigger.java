@@ -0,0 +1,197 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.azure.cosmos.ConnectionMode;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.*;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Trigger a flow on Cosmos document changes",
+    description = "Polls the container change feed every `interval` and fires one execution with an Ion file of the documents created or updated since the previous poll. " +
+        "Feed ranges are read in parallel and the continuation token of each one is kept in the trigger state, " +
+        "so each poll only costs request units proportional to the changes."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: cosmos_changes
+                namespace: company.team
+
+                tasks:
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.count }} documents changed: {{ trigger.uri }}"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.azure.storage.cosmosdb.Trigger
+                    interval: PT1M
+                    connectionString: "{{ secret('COSMOS_CONNECTION_STRING') }}"
+                    databaseId: your_data_base_id
+                    containerId: your_container_id
+                    startFrom: BEGINNING
+                """
+        )
+    }
+)
+public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<ChangeFeed.Output>, CosmosClientOptionsInterface {
+    @Builder.Default
+    private final Duration interval = Duration.ofSeconds(60);
+
+    @Schema(title = "Cosmos account endpoint")
+    @PluginProperty(group = "connection")
+    private Property<String> endpoint;
+
+    @Schema(title = "Cosmos connection string")
+    @PluginProperty(group = "connection", secret = true)
+    private Property<String> connectionString;
+
+    @Schema(title = "Azure Active Directory tenant ID used when authenticating without a connection string")
+    @PluginProperty(group = "connection")
+    private Property<String> tenantId;
+
+    @Schema(title = "Client ID for the Azure app registration used with tenantId")
+    @PluginProperty(group = "connection")
+    private Property<String> clientId;
+
+    @Schema(title = "Client secret for the Azure app registration; not needed when using pemCertificate")
+    @PluginProperty(group = "connection", secret = true)
+    private Property<String> clientSecret;
+
+    @Schema(title = "PEM certificate content for certificate-based authentication")
+    @PluginProperty(group = "advanced")
+    private Property<String> pemCertificate;
+
+    @Builder.Default
+    private Property<ConnectionMode> connectionMode = Property.ofValue(ConnectionMode.DIRECT);
+
+    private Property<ConnectionPoolConfig> connectionPool;
+
+    private Property<List<String>> preferredRegions;
+
+    private Property<Boolean> endpointDiscoveryEnabled;
+
+    private Property<ThrottlingRetryConfig> throttlingRetry;
+
+    private Property<EndToEndLatencyPolicyConfig> endToEndLatencyPolicy;
+
+    @NotNull
+    @Schema(title = "Database ID")
+    @PluginProperty(group = "main")
+    private Property<String> databaseId;
+
+    @NotNull
+    @Schema(title = "Container ID")
+    @PluginProperty(group = "main")
+    private Property<String> containerId;
+
+    @Schema(
+        title = "Where to start reading on the first poll"
+    )
+    @Builder.Default
+    @PluginProperty(group = "source")
+    private Property<ChangeFeed.StartFrom> startFrom = Property.ofValue(ChangeFeed.StartFrom.NOW);
+
+    @Schema(
+        title = "Maximum number of changes per page"
+    )
+    @Min(1)
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> maxItemCount = Property.ofValue(1000);
+
+    @Schema(
+        title = "Number of feed ranges read in parallel"
+    )
+    @Min(1)
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Override
+    public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        String stateKey = StatefulTriggerService.defaultKey(context.getNamespace(), context.getFlowId(), id);
+
+        Map<String, StatefulTriggerService.Entry> state = StatefulTriggerService.readState(runContext, stateKey, Optional.empty());
+
+        ChangeFeed.Output output = this.changeFeed(continuationTokens(state)).run(runContext);
+
+        StatefulTriggerService.writeState(runContext, stateKey, state(output), Optional.empty());
+
+        if (output.getCount() == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(TriggerService.generateExecution(this, conditionContext, context, output));
+    }
+
+    ChangeFeed changeFeed(Map<String, String> continuationTokens) {
+        return ChangeFeed.builder()
+            .id(this.id)
+            .type(ChangeFeed.class.getName())
+            .endpoint(this.endpoint)
+            .connectionString(this.connectionString)
+            .tenantId(this.tenantId)
+            .clientId(this.clientId)
+            .clientSecret(this.clientSecret)
+            .pemCertificate(this.pemCertificate)
+            .connectionMode(this.connectionMode)
+            .connectionPool(this.connectionPool)
+            .preferredRegions(this.preferredRegions)
+            .endpointDiscoveryEnabled(this.endpointDiscoveryEnabled)
+            .throttlingRetry(this.throttlingRetry)
+            .endToEndLatencyPolicy(this.endToEndLatencyPolicy)
+            .databaseId(this.databaseId)
+            .containerId(this.containerId)
+            .startFrom(this.startFrom)
+            .maxItemCount(this.maxItemCount)
+            .concurrency(this.concurrency)
+            .continuationTokens(Property.ofValue(continuationTokens))
+            .build();
+    }
+
+    /**
+     * The trigger state keeps one entry per feed range, holding its continuation token as version.
+     */
+    static Map<String, String> continuationTokens(Map<String, StatefulTriggerService.Entry> state) {
+        Map<String, String> continuationTokens = new HashMap<>();
+        state.forEach((feedRange, entry) -> continuationTokens.put(feedRange, entry.version()));
+
+        return continuationTokens;
+    }
+
+    static Map<String, StatefulTriggerService.Entry> state(ChangeFeed.Output output) {
+        Instant now = Instant.now();
+        Map<String, StatefulTriggerService.Entry> state = new HashMap<>();
+        output.getContinuationTokens().forEach((feedRange, token) -> state.put(feedRange, StatefulTriggerService.Entry.candidate(feedRange, token, now)));
+
+        return state;
+    }
+}
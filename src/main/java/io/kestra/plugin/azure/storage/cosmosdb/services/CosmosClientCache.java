@@ -0,0 +1,173 @@
+package io.kestra.plugin.azure.storage.cosmosdb.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.azure.cosmos.CosmosAsyncClient;
+
+/**
+ * Worker-level cache of {@link CosmosAsyncClient}, so task runs sharing the same account, credentials and client
+ * options reuse warm connections and metadata caches instead of paying the client initialization on each run.
+ * Clients are reference counted and closed once unused for longer than their idle timeout.
+ */
+public class CosmosClientCache {
+    private static final Logger log = LoggerFactory.getLogger(CosmosClientCache.class);
+
+    private static final Map<Object, Holder> CLIENTS = new ConcurrentHashMap<>();
+
+    private static final Duration EVICTION_PERIOD = Duration.ofMinutes(1);
+
+    private static volatile ScheduledExecutorService evictor;
+
+    /**
+     * Returns a lease on the cached client for {@code key}, building it with {@code factory} if needed.
+     * The client is built outside of the map lock, concurrent acquisitions of the same key wait for it.
+     * The lease must be closed once the client is no longer used.
+     */
+    public static Lease acquire(Object key, Duration idleTimeout, Supplier<CosmosAsyncClient> factory) {
+        startEvictor();
+
+        CompletableFuture<CosmosAsyncClient> created = new CompletableFuture<>();
+        Holder holder = CLIENTS.compute(key, (k, current) ->
+        {
+            Holder acquired = current != null ? current : new Holder(created);
+            acquired.references++;
+            acquired.idleTimeout = idleTimeout;
+
+            return acquired;
+        });
+
+        if (holder.client == created) {
+            try {
+                created.complete(factory.get());
+            } catch (RuntimeException e) {
+                // don't keep a failed client, the next acquisition builds it again
+                CLIENTS.remove(key, holder);
+                created.completeExceptionally(e);
+
+                throw e;
+            }
+        }
+
+        try {
+            return new Lease(key, holder, holder.client.join());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Returns a lease on a client that is not cached and is closed with the lease.
+     */
+    public static Lease unshared(CosmosAsyncClient client) {
+        return new Lease(null, new Holder(CompletableFuture.completedFuture(client)), client);
+    }
+
+    static void evictIdle() {
+        long now = System.nanoTime();
+        List<Holder> evicted = new ArrayList<>();
+
+        CLIENTS.forEach((key, holder) -> CLIENTS.computeIfPresent(key, (k, current) ->
+        {
+            if (current.references == 0 && now - current.releasedAt > current.idleTimeout.toNanos()) {
+                evicted.add(current);
+
+                return null;
+            }
+
+            return current;
+        }));
+
+        // closing a client waits for its connections, so it's done once removed, without holding the map lock;
+        // a failure is only logged, as an exception would cancel all the next runs of the scheduled eviction
+        evicted.forEach(holder ->
+        {
+            try {
+                holder.client.join().close();
+                log.debug("Closed Cosmos client idle for more than {}", holder.idleTimeout);
+            } catch (RuntimeException e) {
+                log.warn("Unable to close Cosmos client idle for more than {}", holder.idleTimeout, e);
+            }
+        });
+    }
+
+    private static void startEvictor() {
+        if (evictor == null) {
+            synchronized (CosmosClientCache.class) {
+                if (evictor == null) {
+                    evictor = Executors.newSingleThreadScheduledExecutor(runnable ->
+                    {
+                        Thread thread = new Thread(runnable, "cosmos-client-cache-evictor");
+                        thread.setDaemon(true);
+
+                        return thread;
+                    });
+                    evictor.scheduleWithFixedDelay(CosmosClientCache::evictIdle, EVICTION_PERIOD.toMillis(), EVICTION_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    private static class Holder {
+        private final CompletableFuture<CosmosAsyncClient> client;
+        private int references;
+        private long releasedAt = System.nanoTime();
+        private Duration idleTimeout = Duration.ZERO;
+
+        private Holder(CompletableFuture<CosmosAsyncClient> client) {
+            this.client = client;
+        }
+    }
+
+    public static class Lease implements AutoCloseable {
+        private final Object key;
+        private final Holder holder;
+        private final CosmosAsyncClient client;
+        private boolean closed;
+
+        private Lease(Object key, Holder holder, CosmosAsyncClient client) {
+            this.key = key;
+            this.holder = holder;
+            this.client = client;
+        }
+
+        public CosmosAsyncClient client() {
+            return client;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            if (key == null) {
+                client.close();
+                return;
+            }
+
+            CLIENTS.computeIfPresent(key, (k, current) ->
+            {
+                if (current == holder) {
+                    current.references--;
+                    current.releasedAt = System.nanoTime();
+                }
+
+                return current;
+            });
+        }
+    }
+}
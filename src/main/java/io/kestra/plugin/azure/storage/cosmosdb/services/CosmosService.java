@@ -0,0 +1,181 @@
+package io.kestra.plugin.azure.storage.cosmosdb.services;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.azure.cosmos.CosmosAsyncContainer;
+import com.azure.cosmos.models.CosmosQueryRequestOptions;
+import com.azure.cosmos.models.FeedResponse;
+import com.azure.cosmos.util.CosmosPagedFlux;
+
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import lombok.Builder;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+
+@SuppressWarnings("rawtypes")
+public class CosmosService {
+    /**
+     * Runs a query page by page, only keeping in memory what the {@code fetchType} returns: {@code STORE} writes each
+     * page to an Ion file as it arrives, {@code FETCH_ONE} stops after the first document.
+     * The query resumes from {@code continuationToken} when set and stops once {@code maxPages} pages were read or
+     * {@code maxRequestCharge} request units consumed, returning the continuation token of the next page.
+     */
+    public static QueryResult query(
+        RunContext runContext,
+        CosmosAsyncContainer container,
+        String query,
+        CosmosQueryRequestOptions options,
+        FetchType fetchType,
+        Integer maxItemCount,
+        String continuationToken,
+        Integer maxPages,
+        Double maxRequestCharge
+    ) throws Exception {
+        return store(runContext, fetch(runContext, container, query, options, fetchType, maxItemCount, continuationToken, maxPages, maxRequestCharge));
+    }
+
+    /**
+     * Same as {@link #query(RunContext, CosmosAsyncContainer, String, CosmosQueryRequestOptions, FetchType, Integer, String, Integer, Double)}
+     * but {@code STORE} only writes the documents to a temporary file, without touching the internal storage, so it can
+     * be called concurrently. The result is then handed to {@link #store(RunContext, QueryResult)} on the calling thread.
+     */
+    public static QueryResult fetch(
+        RunContext runContext,
+        CosmosAsyncContainer container,
+        String query,
+        CosmosQueryRequestOptions options,
+        FetchType fetchType,
+        Integer maxItemCount,
+        String continuationToken,
+        Integer maxPages,
+        Double maxRequestCharge
+    ) throws Exception {
+        CosmosPagedFlux<Map> items = container.queryItems(query, options, Map.class);
+        Flux<FeedResponse<Map>> pages;
+        // a blank token, e.g. rendered from an empty variable, starts the query from its first page
+        if (maxItemCount != null) {
+            pages = StringUtils.isNotBlank(continuationToken) ? items.byPage(continuationToken, maxItemCount) : items.byPage(maxItemCount);
+        } else {
+            pages = StringUtils.isNotBlank(continuationToken) ? items.byPage(continuationToken) : items.byPage();
+        }
+
+        Budget budget = new Budget(maxPages, maxRequestCharge);
+        QueryResult.QueryResultBuilder result = QueryResult.builder();
+
+        switch (fetchType) {
+            case STORE -> {
+                File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+
+                try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
+                    drain(pages, budget, throwConsumer(item -> FileSerde.write(output, item)));
+                }
+
+                result.file(tempFile);
+            }
+            case FETCH -> {
+                List<Map> rows = new ArrayList<>();
+                drain(pages, budget, rows::add);
+
+                result.rows(rows);
+            }
+            case FETCH_ONE -> {
+                AtomicReference<Map> row = new AtomicReference<>();
+                drain(pages.takeUntil(page -> !page.getResults().isEmpty()), budget, item -> row.compareAndSet(null, item));
+
+                budget.size.set(row.get() == null ? 0 : 1);
+                budget.continuationToken.set(null);
+                result.row(row.get());
+            }
+            case NONE -> drain(pages, budget, item -> {});
+        }
+
+        return result
+            .size(budget.size.get())
+            .pages(budget.pages.get())
+            .requestCharge(budget.requestCharge.sum())
+            .continuationToken(budget.continuationToken.get())
+            .build();
+    }
+
+    /**
+     * Puts the temporary file of a {@code STORE} result in the internal storage, other results are returned as is.
+     */
+    public static QueryResult store(RunContext runContext, QueryResult result) throws IOException {
+        if (result.getFile() == null) {
+            return result;
+        }
+
+        return result.toBuilder()
+            .uri(runContext.storage().putFile(result.getFile()))
+            .file(null)
+            .build();
+    }
+
+    private static void drain(Flux<FeedResponse<Map>> pages, Budget budget, Consumer<Map> consumer) {
+        pages
+            .doOnNext(page ->
+            {
+                budget.pages.incrementAndGet();
+                budget.requestCharge.add(page.getRequestCharge());
+                budget.continuationToken.set(page.getContinuationToken());
+                page.getResults().forEach(item ->
+                {
+                    budget.size.incrementAndGet();
+                    consumer.accept(item);
+                });
+            })
+            .takeUntil(page -> budget.exhausted())
+            .blockLast();
+    }
+
+    private static class Budget {
+        private final Integer maxPages;
+        private final Double maxRequestCharge;
+        private final AtomicLong size = new AtomicLong();
+        private final AtomicLong pages = new AtomicLong();
+        private final DoubleAdder requestCharge = new DoubleAdder();
+        private final AtomicReference<String> continuationToken = new AtomicReference<>();
+
+        private Budget(Integer maxPages, Double maxRequestCharge) {
+            this.maxPages = maxPages;
+            this.maxRequestCharge = maxRequestCharge;
+        }
+
+        private boolean exhausted() {
+            return (maxPages != null && pages.get() >= maxPages) ||
+                (maxRequestCharge != null && requestCharge.sum() >= maxRequestCharge);
+        }
+    }
+
+    @Builder(toBuilder = true)
+    @Getter
+    public static class QueryResult {
+        private final List<Map> rows;
+        private final Map row;
+        private final URI uri;
+        private final File file;
+        private final long size;
+        private final long pages;
+        private final double requestCharge;
+        private final String continuationToken;
+    }
+}
@@ -24,4 +24,14 @@ public interface ChecksumValidatedInterface {
     )
     @PluginProperty(group = "reliability")
     Property<Boolean> getFailOnMissingChecksum();
+
+    @Schema(
+        title = "Validate the checksum block by block",
+        description = """
+            If true, the content is downloaded by 4 MiB ranges in parallel and each range is
+            checked against the MD5 the service computes for it. This validates content with no
+            stored Content-MD5, such as block blobs uploaded as streams."""
+    )
+    @PluginProperty(group = "reliability")
+    Property<Boolean> getValidateChecksumPerBlock();
 }
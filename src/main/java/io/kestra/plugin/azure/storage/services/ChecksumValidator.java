@@ -6,24 +6,63 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import lombok.Builder;
 import lombok.Value;
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
 
 public final class ChecksumValidator {
+    /**
+     * Size of the ranges requested to the service when streaming a download.
+     */
+    public static final int STREAM_BLOCK_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Largest range for which the service returns a Content-MD5 computed on the fly.
+     */
+    public static final int SERVICE_BLOCK_SIZE = 4 * 1024 * 1024;
+
+    private static final int BLOCK_CONCURRENCY = 8;
+
+    private static final long PARALLEL_CRC_BLOCK_SIZE = 16L * 1024 * 1024;
+
+    private static final long CRC32C_POLY = 0x82F63B78L;
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
     private ChecksumValidator() {
     }
 
     public enum Algorithm {
         MD5("MD5"),
-        SHA_256("SHA-256");
+        SHA_256("SHA-256"),
+        CRC32C("CRC32C"),
+        CRC64("CRC64");
 
         private final String javaName;
 
@@ -43,6 +82,7 @@ public final class ChecksumValidator {
         boolean failOnMissingServerChecksum;
         String expected;
         Algorithm algorithm;
+        boolean perBlock;
 
         public boolean enabled() {
             return validateAgainstServer || expected != null;
@@ -69,6 +109,26 @@ public final class ChecksumValidator {
             .build();
     }
 
+    public static Options resolve(
+        RunContext runContext,
+        Property<Boolean> validateChecksum,
+        Property<Boolean> failOnMissingChecksum,
+        Property<String> expectedChecksum,
+        Property<Algorithm> checksumAlgorithm,
+        Property<Boolean> validateChecksumPerBlock
+    ) throws IllegalVariableEvaluationException {
+        Options options = resolve(runContext, validateChecksum, failOnMissingChecksum, expectedChecksum, checksumAlgorithm);
+        boolean rPerBlock = runContext.render(validateChecksumPerBlock).as(Boolean.class).orElse(false);
+
+        return Options.builder()
+            .validateAgainstServer(options.isValidateAgainstServer() || rPerBlock)
+            .failOnMissingServerChecksum(options.isFailOnMissingServerChecksum())
+            .expected(options.getExpected())
+            .algorithm(options.getAlgorithm())
+            .perBlock(rPerBlock)
+            .build();
+    }
+
     /**
      * Validates the local file's checksum against either a user-supplied expected value
      * or the server-stored Content-MD5. User-supplied {@code expected} takes precedence.
@@ -81,13 +141,172 @@ public final class ChecksumValidator {
         byte[] serverContentMd5,
         Options options,
         String resourceName
+    ) throws IOException {
+        verify(runContext, () -> computeDigest(file, algorithm(options)), serverContentMd5, options, resourceName);
+    }
+
+    /**
+     * Same as {@link #verify(RunContext, File, byte[], Options, String)} with a digest already computed while the
+     * content was streamed, see {@link #copy(InputStream, File, Options)}.
+     *
+     * @param actualDigest digest of the content using the options algorithm
+     */
+    public static void verifyDigest(
+        RunContext runContext,
+        byte[] actualDigest,
+        byte[] serverContentMd5,
+        Options options,
+        String resourceName
+    ) throws IOException {
+        verify(runContext, () -> actualDigest, serverContentMd5, options, resourceName);
+    }
+
+    /**
+     * Copies the stream to the file, computing the digest required by the options in the same pass.
+     *
+     * @return the digest of the copied bytes, or null if the options don't require any validation
+     */
+    public static byte[] copy(InputStream in, File file, Options options) throws IOException {
+        Hasher hasher = options != null && options.enabled() ? hasher(algorithm(options)) : null;
+
+        try (OutputStream out = new FileOutputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (hasher != null) {
+                    hasher.update(buffer, 0, read);
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+
+        return hasher != null ? hasher.digest() : null;
+    }
+
+    /**
+     * Wraps the stream to compute the digest required by the options while it is consumed, so content streamed to
+     * the internal storage can be validated without any local copy.
+     */
+    public static HashingInputStream hashing(InputStream in, Options options) throws IOException {
+        return new HashingInputStream(in, options != null && options.enabled() ? hasher(algorithm(options)) : null);
+    }
+
+    /**
+     * Downloads {@code size} bytes to the file by {@link #SERVICE_BLOCK_SIZE} ranges fetched, hashed and written in
+     * parallel. Each range is checked against the MD5 the service computes for it, so content without any stored
+     * Content-MD5 is still validated end to end. An {@code expected} checksum is then checked against the whole file:
+     * CRC algorithms combine the per-range CRCs, MD5 and SHA-256 are computed over the file.
+     * Ranges returned without any MD5 are counted in {@code checksum.blocks.unverified}, and without an
+     * {@code expected} checksum the file is then only reported as {@code partial}, or {@code skipped} if no range
+     * was checked at all.
+     */
+    public static void copyPerBlock(
+        RunContext runContext,
+        long size,
+        RangeReader reader,
+        File file,
+        Options options,
+        String resourceName
+    ) throws IOException {
+        Algorithm algorithm = algorithm(options);
+        boolean crc = isCrc(algorithm) && options.getExpected() != null;
+        int blocks = (int) ((size + SERVICE_BLOCK_SIZE - 1) / SERVICE_BLOCK_SIZE);
+        long[] crcs = new long[blocks];
+        AtomicInteger missing = new AtomicInteger();
+        AtomicBoolean mismatch = new AtomicBoolean();
+
+        // metrics are only recorded from this thread, the workers just flag what they found
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Flux.range(0, blocks)
+                .parallel(BLOCK_CONCURRENCY)
+                .runOn(Schedulers.boundedElastic())
+                .doOnNext(throwConsumer(index ->
+                {
+                    long offset = (long) index * SERVICE_BLOCK_SIZE;
+                    int length = (int) Math.min(SERVICE_BLOCK_SIZE, size - offset);
+
+                    Pair<byte[], byte[]> range = reader.read(offset, length);
+                    byte[] data = range.getLeft();
+
+                    if (data.length != length) {
+                        throw new IOException("Expected " + length + " bytes at offset " + offset + " of '" + resourceName + "', got " + data.length);
+                    }
+
+                    if (range.getRight() == null || range.getRight().length == 0) {
+                        missing.incrementAndGet();
+                    } else if (!MessageDigest.isEqual(messageDigest(Algorithm.MD5).digest(data), range.getRight())) {
+                        mismatch.set(true);
+                        throw new IOException("Checksum mismatch for '" + resourceName + "' on the block at offset " + offset);
+                    }
+
+                    if (crc) {
+                        Checksum checksum = checksum(algorithm);
+                        checksum.update(data, 0, data.length);
+                        crcs[index] = checksum.getValue();
+                    }
+
+                    ByteBuffer buffer = ByteBuffer.wrap(data);
+                    long position = offset;
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                }))
+                .sequential()
+                .blockLast();
+        } catch (RuntimeException e) {
+            if (Exceptions.unwrap(e) instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw e;
+        } finally {
+            if (mismatch.get()) {
+                runContext.metric(Counter.of("checksum.validated", 1, "result", "mismatch"));
+            }
+        }
+
+        runContext.metric(Counter.of("checksum.blocks", blocks));
+
+        if (missing.get() > 0) {
+            runContext.metric(Counter.of("checksum.blocks.unverified", missing.get()));
+
+            String msg = "The service returned no Content-MD5 for " + missing.get() + " blocks of '" + resourceName + "'.";
+            if (options.isFailOnMissingServerChecksum()) {
+                runContext.metric(Counter.of("checksum.validated", 1, "result", "missing"));
+                throw new IOException(msg);
+            }
+            runContext.logger().warn("{} These blocks were not validated.", msg);
+        }
+
+        if (options.getExpected() != null) {
+            verify(
+                runContext,
+                () -> crc ? crcBytes(algorithm, combine(algorithm, crcs, SERVICE_BLOCK_SIZE, size)) : computeDigest(file, algorithm),
+                null,
+                options,
+                resourceName
+            );
+        } else if (missing.get() == blocks) {
+            runContext.metric(Counter.of("checksum.validated", 1, "result", "skipped"));
+        } else if (missing.get() > 0) {
+            runContext.metric(Counter.of("checksum.validated", 1, "result", "partial"));
+        } else {
+            runContext.metric(Counter.of("checksum.validated", 1, "result", "match"));
+        }
+    }
+
+    private static void verify(
+        RunContext runContext,
+        DigestSupplier actualDigest,
+        byte[] serverContentMd5,
+        Options options,
+        String resourceName
     ) throws IOException {
         if (options == null || !options.enabled()) {
             return;
         }
 
         Logger logger = runContext.logger();
-        Algorithm algorithm = options.getAlgorithm() != null ? options.getAlgorithm() : Algorithm.MD5;
+        Algorithm algorithm = algorithm(options);
 
         String expectedHex;
         String comparisonSource;
@@ -118,7 +337,7 @@ public final class ChecksumValidator {
             return;
         }
 
-        String actualHex = computeHex(file, algorithm);
+        String actualHex = HexFormat.of().formatHex(actualDigest.get());
 
         if (!actualHex.equalsIgnoreCase(expectedHex)) {
             runContext.metric(Counter.of("checksum.validated", 1, "result", "mismatch"));
@@ -133,22 +352,150 @@ public final class ChecksumValidator {
         logger.debug("Checksum {} verified for '{}' (source: {})", algorithm, resourceName, comparisonSource);
     }
 
-    private static String computeHex(File file, Algorithm algorithm) throws IOException {
-        MessageDigest digest;
-        try {
-            digest = MessageDigest.getInstance(algorithm.javaName());
-        } catch (NoSuchAlgorithmException e) {
-            throw new IOException("Algorithm " + algorithm + " not available", e);
+    private static byte[] computeDigest(File file, Algorithm algorithm) throws IOException {
+        if (isCrc(algorithm)) {
+            return computeCrc(file, algorithm);
         }
 
+        Hasher hasher = hasher(algorithm);
+
         try (InputStream in = new FileInputStream(file)) {
-            byte[] buffer = new byte[8192];
+            byte[] buffer = new byte[BUFFER_SIZE];
             int read;
             while ((read = in.read(buffer)) != -1) {
-                digest.update(buffer, 0, read);
+                hasher.update(buffer, 0, read);
             }
         }
-        return HexFormat.of().formatHex(digest.digest());
+        return hasher.digest();
+    }
+
+    /**
+     * CRCs can be combined, so the file is split in blocks hashed in parallel on the common fork-join pool.
+     */
+    private static byte[] computeCrc(File file, Algorithm algorithm) throws IOException {
+        long size = file.length();
+        int blocks = (int) Math.max(1, (size + PARALLEL_CRC_BLOCK_SIZE - 1) / PARALLEL_CRC_BLOCK_SIZE);
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long[] crcs = IntStream.range(0, blocks)
+                .parallel()
+                .mapToLong(index ->
+                {
+                    long offset = index * PARALLEL_CRC_BLOCK_SIZE;
+                    return blockCrc(channel, algorithm, offset, Math.min(PARALLEL_CRC_BLOCK_SIZE, size - offset));
+                })
+                .toArray();
+
+            return crcBytes(algorithm, combine(algorithm, crcs, PARALLEL_CRC_BLOCK_SIZE, size));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static long blockCrc(FileChannel channel, Algorithm algorithm, long offset, long length) {
+        Checksum checksum = checksum(algorithm);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long position = offset;
+        long end = offset + length;
+
+        try {
+            while (position < end) {
+                buffer.clear().limit((int) Math.min(BUFFER_SIZE, end - position));
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                checksum.update(buffer.array(), 0, read);
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return checksum.getValue();
+    }
+
+    /**
+     * Combines the CRCs of consecutive blocks of {@code blockSize} bytes, the last one possibly shorter.
+     */
+    private static long combine(Algorithm algorithm, long[] crcs, long blockSize, long size) {
+        if (crcs.length == 0) {
+            return 0;
+        }
+
+        long poly = algorithm == Algorithm.CRC64 ? Crc64.POLY : CRC32C_POLY;
+        int width = algorithm == Algorithm.CRC64 ? 64 : 32;
+        long crc = crcs[0];
+
+        for (int i = 1; i < crcs.length; i++) {
+            long length = Math.min(blockSize, size - i * blockSize);
+            crc = CrcCombiner.combine(crc, crcs[i], length, poly, width);
+        }
+
+        return crc;
+    }
+
+    private static boolean isCrc(Algorithm algorithm) {
+        return algorithm == Algorithm.CRC32C || algorithm == Algorithm.CRC64;
+    }
+
+    private static Checksum checksum(Algorithm algorithm) {
+        return algorithm == Algorithm.CRC64 ? new Crc64() : new CRC32C();
+    }
+
+    /**
+     * CRC-32C is encoded big-endian; CRC-64 little-endian, matching Azure's {@code x-ms-content-crc64}.
+     */
+    private static byte[] crcBytes(Algorithm algorithm, long value) {
+        if (algorithm == Algorithm.CRC64) {
+            return ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array();
+        }
+
+        return ByteBuffer.allocate(4).putInt((int) value).array();
+    }
+
+    private static Hasher hasher(Algorithm algorithm) throws IOException {
+        if (isCrc(algorithm)) {
+            Checksum checksum = checksum(algorithm);
+
+            return new Hasher() {
+                @Override
+                public void update(byte[] buffer, int offset, int length) {
+                    checksum.update(buffer, offset, length);
+                }
+
+                @Override
+                public byte[] digest() {
+                    return crcBytes(algorithm, checksum.getValue());
+                }
+            };
+        }
+
+        MessageDigest digest = messageDigest(algorithm);
+
+        return new Hasher() {
+            @Override
+            public void update(byte[] buffer, int offset, int length) {
+                digest.update(buffer, offset, length);
+            }
+
+            @Override
+            public byte[] digest() {
+                return digest.digest();
+            }
+        };
+    }
+
+    private static MessageDigest messageDigest(Algorithm algorithm) throws IOException {
+        try {
+            return MessageDigest.getInstance(algorithm.javaName());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Algorithm " + algorithm + " not available", e);
+        }
+    }
+
+    private static Algorithm algorithm(Options options) {
+        return options != null && options.getAlgorithm() != null ? options.getAlgorithm() : Algorithm.MD5;
     }
 
     private static String normalizeExpected(String expected, Algorithm algorithm) {
@@ -175,6 +522,81 @@ public final class ChecksumValidator {
         return switch (algorithm) {
             case MD5 -> 16;
             case SHA_256 -> 32;
+            case CRC32C -> 4;
+            case CRC64 -> 8;
         };
     }
+
+    @FunctionalInterface
+    private interface DigestSupplier {
+        byte[] get() throws IOException;
+    }
+
+    private interface Hasher {
+        void update(byte[] buffer, int offset, int length);
+
+        byte[] digest();
+    }
+
+    public static final class HashingInputStream extends FilterInputStream {
+        private final Hasher hasher;
+
+        private HashingInputStream(InputStream in, Hasher hasher) {
+            super(in);
+            this.hasher = hasher;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1 && hasher != null) {
+                hasher.update(new byte[]{(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0 && hasher != null) {
+                hasher.update(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // skipped bytes must be hashed too
+            byte[] buffer = new byte[(int) Math.min(n, BUFFER_SIZE)];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = this.read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read < 0) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        /**
+         * @return the digest of the bytes read so far, or null if the options don't require any validation
+         */
+        public byte[] digest() {
+            return hasher != null ? hasher.digest() : null;
+        }
+    }
+
+    @FunctionalInterface
+    public interface RangeReader {
+        /**
+         * @return the content of the range, and the MD5 the service computed for it or null if it returned none
+         */
+        Pair<byte[], byte[]> read(long offset, long length) throws IOException;
+    }
 }
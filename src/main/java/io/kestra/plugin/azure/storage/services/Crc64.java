@@ -0,0 +1,84 @@
+package io.kestra.plugin.azure.storage.services;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.zip.Checksum;
+
+/**
+ * CRC-64 as used by Azure Storage for {@code x-ms-content-crc64} (CRC-64/NVME: reflected polynomial
+ * {@code 0x9A6C9329AC4BC9B5}, initial value and final xor of all ones), computed with slicing-by-8 tables.
+ */
+public final class Crc64 implements Checksum {
+    static final long POLY = 0x9A6C9329AC4BC9B5L;
+
+    private static final long[][] TABLES = tables();
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private long crc = 0;
+
+    @Override
+    public void update(int b) {
+        long c = ~crc;
+        c = TABLES[0][(int) ((c ^ b) & 0xFF)] ^ (c >>> 8);
+        crc = ~c;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        long c = ~crc;
+        int i = off;
+        int end = off + len;
+
+        for (; i + 8 <= end; i += 8) {
+            c ^= (long) LONG_LE.get(b, i);
+            c = TABLES[7][(int) (c & 0xFF)] ^
+                TABLES[6][(int) ((c >>> 8) & 0xFF)] ^
+                TABLES[5][(int) ((c >>> 16) & 0xFF)] ^
+                TABLES[4][(int) ((c >>> 24) & 0xFF)] ^
+                TABLES[3][(int) ((c >>> 32) & 0xFF)] ^
+                TABLES[2][(int) ((c >>> 40) & 0xFF)] ^
+                TABLES[1][(int) ((c >>> 48) & 0xFF)] ^
+                TABLES[0][(int) (c >>> 56)];
+        }
+
+        for (; i < end; i++) {
+            c = TABLES[0][(int) ((c ^ b[i]) & 0xFF)] ^ (c >>> 8);
+        }
+
+        crc = ~c;
+    }
+
+    @Override
+    public long getValue() {
+        return crc;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0;
+    }
+
+    private static long[][] tables() {
+        long[][] tables = new long[8][256];
+
+        for (int n = 0; n < 256; n++) {
+            long c = n;
+            for (int k = 0; k < 8; k++) {
+                c = (c & 1) != 0 ? (c >>> 1) ^ POLY : c >>> 1;
+            }
+            tables[0][n] = c;
+        }
+
+        for (int n = 0; n < 256; n++) {
+            long c = tables[0][n];
+            for (int k = 1; k < 8; k++) {
+                c = tables[0][(int) (c & 0xFF)] ^ (c >>> 8);
+                tables[k][n] = c;
+            }
+        }
+
+        return tables;
+    }
+}
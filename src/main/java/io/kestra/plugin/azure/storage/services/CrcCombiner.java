@@ -0,0 +1,73 @@
+package io.kestra.plugin.azure.storage.services;
+
+/**
+ * Combines the CRCs of two consecutive byte ranges into the CRC of their concatenation, without the data, for the
+ * reflected CRCs with all-ones initial value and final xor (CRC-32C, CRC-64/NVME). This is the GF(2) matrix method
+ * of zlib's {@code crc32_combine}, generalised to any width up to 64 bits.
+ */
+final class CrcCombiner {
+    private CrcCombiner() {
+    }
+
+    static long combine(long crc1, long crc2, long length2, long reflectedPoly, int width) {
+        if (length2 <= 0) {
+            return crc1;
+        }
+
+        long[] even = new long[width];
+        long[] odd = new long[width];
+
+        // operator for one zero bit
+        odd[0] = reflectedPoly;
+        long row = 1;
+        for (int n = 1; n < width; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+
+        // operators for two then four zero bits
+        square(even, odd, width);
+        square(odd, even, width);
+
+        long remaining = length2;
+        do {
+            // first pass gives the operator for one zero byte
+            square(even, odd, width);
+            if ((remaining & 1) != 0) {
+                crc1 = times(even, crc1);
+            }
+            remaining >>>= 1;
+
+            if (remaining == 0) {
+                break;
+            }
+
+            square(odd, even, width);
+            if ((remaining & 1) != 0) {
+                crc1 = times(odd, crc1);
+            }
+            remaining >>>= 1;
+        } while (remaining != 0);
+
+        return crc1 ^ crc2;
+    }
+
+    private static long times(long[] matrix, long vector) {
+        long sum = 0;
+        int i = 0;
+        while (vector != 0) {
+            if ((vector & 1) != 0) {
+                sum ^= matrix[i];
+            }
+            vector >>>= 1;
+            i++;
+        }
+        return sum;
+    }
+
+    private static void square(long[] square, long[] matrix, int width) {
+        for (int n = 0; n < width; n++) {
+            square[n] = times(matrix, matrix[n]);
+        }
+    }
+}
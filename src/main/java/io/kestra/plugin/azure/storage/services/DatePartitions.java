@@ -0,0 +1,77 @@
+package io.kestra.plugin.azure.storage.services;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Date partitions of a path, such as {@code in/2024/03/01/}, used by the watermark triggers to only list the
+ * partitions written since their last poll.
+ */
+public class DatePartitions {
+    /**
+     * Every partition between {@code since} and {@code until}, formatted in UTC with {@code format} and appended to
+     * {@code prefix}, stepping by the smallest field of the pattern.
+     */
+    public static Set<String> partitions(String prefix, String format, Instant since, Instant until) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format).withZone(ZoneOffset.UTC);
+        ChronoUnit step = partitionStep(format);
+        Set<String> partitions = new LinkedHashSet<>();
+
+        for (ZonedDateTime current = truncate(since.atZone(ZoneOffset.UTC), step); !current.toInstant().isAfter(until); current = current.plus(1, step)) {
+            partitions.add(prefix + formatter.format(current));
+        }
+
+        partitions.add(prefix + formatter.format(until));
+
+        return partitions;
+    }
+
+    /**
+     * The smallest date-time field of the pattern, so that stepping by it visits every partition.
+     */
+    public static ChronoUnit partitionStep(String format) {
+        ChronoUnit step = ChronoUnit.YEARS;
+        boolean quoted = false;
+
+        for (char letter : format.toCharArray()) {
+            if (letter == '\'') {
+                quoted = !quoted;
+                continue;
+            }
+            if (quoted) {
+                continue;
+            }
+
+            ChronoUnit unit = switch (letter) {
+                case 'y', 'u', 'Y' -> ChronoUnit.YEARS;
+                case 'M', 'L', 'Q', 'q' -> ChronoUnit.MONTHS;
+                case 'd', 'D', 'w', 'W', 'E', 'e', 'c', 'F' -> ChronoUnit.DAYS;
+                case 'H', 'k', 'K', 'h', 'a', 'B' -> ChronoUnit.HOURS;
+                case 'm' -> ChronoUnit.MINUTES;
+                case 's', 'S', 'n', 'N', 'A' -> throw new IllegalArgumentException(
+                    "partitionFormat '" + format + "' is finer than a minute, which would list too many partitions"
+                );
+                default -> null;
+            };
+
+            if (unit != null && unit.compareTo(step) < 0) {
+                step = unit;
+            }
+        }
+
+        return step;
+    }
+
+    private static ZonedDateTime truncate(ZonedDateTime dateTime, ChronoUnit step) {
+        return switch (step) {
+            case YEARS -> dateTime.truncatedTo(ChronoUnit.DAYS).withDayOfYear(1);
+            case MONTHS -> dateTime.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+            default -> dateTime.truncatedTo(step);
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package io.kestra.plugin.azure.storage.services;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Position in a paged listing: the continuation token of a page and the number of items of that page already read.
+ * Listings filtered client-side read whole pages and may stop inside one, so the continuation token they return
+ * carries both; a plain service token is a position at the start of its page.
+ *
+ * @param pageToken continuation token of the page, null for the first page
+ * @param offset number of items of the page already read
+ */
+public record ListingPosition(String pageToken, int offset) {
+    private static final String PREFIX = "offset:";
+
+    public static ListingPosition decode(String continuationToken) {
+        if (StringUtils.isBlank(continuationToken)) {
+            return new ListingPosition(null, 0);
+        }
+
+        if (!continuationToken.startsWith(PREFIX)) {
+            return new ListingPosition(continuationToken, 0);
+        }
+
+        int separator = continuationToken.indexOf(':', PREFIX.length());
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid continuation token '" + continuationToken + "'");
+        }
+
+        String pageToken = continuationToken.substring(separator + 1);
+
+        return new ListingPosition(
+            pageToken.isEmpty() ? null : pageToken,
+            Integer.parseInt(continuationToken.substring(PREFIX.length(), separator))
+        );
+    }
+
+    public String encode() {
+        if (offset == 0) {
+            return pageToken;
+        }
+
+        return PREFIX + offset + ":" + (pageToken != null ? pageToken : "");
+    }
+}
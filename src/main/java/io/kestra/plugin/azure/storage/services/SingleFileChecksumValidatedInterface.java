@@ -20,7 +20,9 @@ public interface SingleFileChecksumValidatedInterface extends ChecksumValidatedI
         description = """
             Algorithm used to compute and compare the checksum. Defaults to MD5.
             Note: validateChecksum (server-side) only supports MD5, since that is what
-            Azure stores. SHA-256 requires expectedChecksum."""
+            Azure stores. SHA-256, CRC32C and CRC64 require expectedChecksum. CRC64 is
+            Azure's storage CRC64 (little-endian, as in x-ms-content-crc64) and CRC checksums
+            of large files are computed in parallel."""
     )
     @PluginProperty(group = "reliability")
     Property<ChecksumValidator.Algorithm> getChecksumAlgorithm();
@@ -3,19 +3,27 @@ package io.kestra.plugin.azure.storage.adls;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import com.azure.storage.file.datalake.DataLakeFileSystemClient;
+import com.azure.storage.file.datalake.DataLakeServiceClient;
+import com.azure.storage.file.datalake.DataLakeServiceClientBuilder;
 import com.azure.storage.file.datalake.models.DataLakeStorageException;
 import com.google.common.io.CharStreams;
 
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.azure.storage.adls.models.AdlsFile;
+import io.kestra.plugin.azure.storage.adls.services.DataLakeService;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -117,4 +125,79 @@ class AllTest extends AbstractTest {
         List.Output listWithDefaultLimitOutput = listWithDefaultLimit.run(runContext(listWithDefaultLimit));
         assertThat(listWithDefaultLimitOutput.getFiles().size(), is(25));
     }
+
+    @Test
+    void listWithoutPerFileRequests() throws Exception {
+        String prefix = IdUtils.create();
+        String dir = "adls/azure/" + prefix;
+
+        for (int i = 0; i < 3; i++) {
+            upload(dir);
+        }
+
+        AtomicInteger requests = new AtomicInteger();
+        DataLakeServiceClient client = new DataLakeServiceClientBuilder()
+            .endpoint(this.adlsEndpoint)
+            .connectionString(connectionString)
+            .addPolicy((context, next) ->
+            {
+                requests.incrementAndGet();
+                return next.process();
+            })
+            .buildClient();
+        DataLakeFileSystemClient fileSystemClient = client.getFileSystemClient(this.fileSystem);
+
+        java.util.List<AdlsFile> files = DataLakeService.list(fileSystemClient, dir + "/");
+        assertThat(files.size(), is(3));
+        assertThat(files.getFirst().getLastModifed(), is(notNullValue()));
+        assertThat(requests.get(), is(1));
+
+        requests.set(0);
+        files = DataLakeService.list(fileSystemClient, dir + "/", true);
+        assertThat(files.size(), is(3));
+        assertThat(files.getFirst().getContentType(), is(notNullValue()));
+        assertThat(requests.get(), is(4));
+    }
+
+    @Test
+    void listRecursiveWithContinuationToken() throws Exception {
+        String dir = "adls/azure/" + IdUtils.create();
+
+        for (int i = 0; i < 3; i++) {
+            upload(dir);
+        }
+        for (int i = 0; i < 2; i++) {
+            upload(dir + "/sub");
+        }
+
+        List flat = list()
+            .directoryPath(Property.ofValue(dir + "/"))
+            .build();
+        assertThat(flat.run(runContext(flat)).getCount(), is(4L));
+
+        List first = list()
+            .directoryPath(Property.ofValue(dir + "/"))
+            .recursive(Property.ofValue(true))
+            .regexp(Property.ofValue(".*\\.yml"))
+            .maxFiles(Property.ofValue(3))
+            .build();
+
+        List.Output firstOutput = first.run(runContext(first));
+        assertThat(firstOutput.getFiles().size(), is(3));
+        assertThat(firstOutput.getContinuationToken(), notNullValue());
+
+        List next = list()
+            .directoryPath(Property.ofValue(dir + "/"))
+            .recursive(Property.ofValue(true))
+            .regexp(Property.ofValue(".*\\.yml"))
+            .maxFiles(Property.ofValue(3))
+            .continuationToken(Property.ofValue(firstOutput.getContinuationToken()))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .build();
+
+        List.Output nextOutput = next.run(runContext(next));
+        assertThat(nextOutput.getCount(), is(2L));
+        assertThat(nextOutput.getFiles(), nullValue());
+        assertThat(nextOutput.getUri(), notNullValue());
+    }
 }
@@ -139,6 +139,42 @@ class ChecksumTest extends AbstractTest {
         assertDoesNotThrow(() -> read.run(runContext(read)));
     }
 
+    @Test
+    void uploadValidateChecksumInSeveralChunks() throws Exception {
+        String dir = "adls/azure/" + IdUtils.create();
+        directoryToClean.add(dir);
+
+        Upload upload = Upload.builder()
+            .id(ChecksumTest.class.getSimpleName())
+            .type(Upload.class.getName())
+            .endpoint(Property.ofValue(this.adlsEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .fileSystem(Property.ofValue(this.fileSystem))
+            .from(Property.ofValue(upload().toString()))
+            .filePath(Property.ofValue(dir + "/" + IdUtils.create() + ".yml"))
+            .validateChecksum(Property.ofValue(true))
+            .blockSize(Property.ofValue(64L))
+            .maxConcurrency(Property.ofValue(3))
+            .build();
+
+        Upload.Output output = upload.run(runContext(upload));
+        assertThat(output.getFile().getSize(), is(Files.size(BaseTest.file("application.yml").toPath())));
+
+        Read read = Read.builder()
+            .id(ChecksumTest.class.getSimpleName())
+            .type(Read.class.getName())
+            .endpoint(Property.ofValue(this.adlsEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .fileSystem(Property.ofValue(this.fileSystem))
+            .filePath(Property.ofValue(output.getFile().getName()))
+            .expectedChecksum(Property.ofValue(md5OfApplicationYml()))
+            .validateChecksum(Property.ofValue(true))
+            .failOnMissingChecksum(Property.ofValue(true))
+            .build();
+
+        assertDoesNotThrow(() -> read.run(runContext(read)));
+    }
+
     @Test
     void readsStrictMissingChecksumFails() throws Exception {
         String prefix = IdUtils.create();
@@ -2,13 +2,17 @@ package io.kestra.plugin.azure.storage.adls;
 
 import org.junit.jupiter.api.Test;
 
+import com.azure.storage.file.datalake.DataLakeServiceClient;
+
 import io.kestra.core.models.property.Property;
 import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.azure.storage.adls.services.DataLakeService;
 import io.kestra.plugin.azure.storage.blob.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DeleteFilesTest extends AbstractTest {
     @Test
@@ -34,4 +38,80 @@ class DeleteFilesTest extends AbstractTest {
         assertThat(run.getCount(), is(10L));
         assertThat(run.getSize(), greaterThan(1000L));
     }
+
+    @Test
+    void recursiveWithRegexp() throws Exception {
+        String prefix = IdUtils.create();
+
+        for (int i = 0; i < 3; i++) {
+            upload("adls/azure/" + prefix);
+            uploadStringFile("adls/azure/" + prefix + "/sub");
+        }
+
+        DeleteFiles task = DeleteFiles.builder()
+            .id(DeleteFilesTest.class.getSimpleName())
+            .type(DeleteFiles.class.getName())
+            .endpoint(Property.ofValue(this.adlsEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .fileSystem(Property.ofValue(this.fileSystem))
+            .directoryPath(Property.ofValue("adls/azure/" + prefix + "/"))
+            .recursive(Property.ofValue(true))
+            .regexp(Property.ofValue(".*\\.txt"))
+            .concurrent(3)
+            .build();
+
+        DeleteFiles.Output run = task.run(runContext(task));
+        assertThat(run.getCount(), is(3L));
+
+        var remaining = list()
+            .directoryPath(Property.ofValue("adls/azure/" + prefix + "/"))
+            .recursive(Property.ofValue(true))
+            .build()
+            .run(runContext(task));
+        assertThat(remaining.getFiles().stream().filter(file -> !file.isDirectory()).count(), is(3L));
+    }
+
+    @Test
+    void deleteDirectory() throws Exception {
+        String prefix = IdUtils.create();
+
+        for (int i = 0; i < 3; i++) {
+            upload("adls/azure/" + prefix);
+            upload("adls/azure/" + prefix + "/sub");
+        }
+
+        DeleteFiles task = DeleteFiles.builder()
+            .id(DeleteFilesTest.class.getSimpleName())
+            .type(DeleteFiles.class.getName())
+            .endpoint(Property.ofValue(this.adlsEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .fileSystem(Property.ofValue(this.fileSystem))
+            .directoryPath(Property.ofValue("adls/azure/" + prefix + "/"))
+            .deleteDirectory(Property.ofValue(true))
+            .build();
+
+        DeleteFiles.Output run = task.run(runContext(task));
+        assertThat(run.getCount(), is(6L));
+        assertThat(run.getSize(), greaterThan(1000L));
+
+        DataLakeServiceClient client = DataLakeService.client(adlsEndpoint, connectionString, null, null, null, runContextFactory.of());
+        assertThat(client.getFileSystemClient(this.fileSystem).getDirectoryClient("adls/azure/" + prefix).exists(), is(false));
+    }
+
+    @Test
+    void deleteDirectoryRoot() {
+        for (String root : java.util.List.of("/", "//")) {
+            DeleteFiles task = DeleteFiles.builder()
+                .id(DeleteFilesTest.class.getSimpleName())
+                .type(DeleteFiles.class.getName())
+                .endpoint(Property.ofValue(this.adlsEndpoint))
+                .connectionString(Property.ofValue(connectionString))
+                .fileSystem(Property.ofValue(this.fileSystem))
+                .directoryPath(Property.ofValue(root))
+                .deleteDirectory(Property.ofValue(true))
+                .build();
+
+            assertThrows(IllegalArgumentException.class, () -> task.run(runContext(task)));
+        }
+    }
 }
@@ -3,7 +3,9 @@ package io.kestra.plugin.azure.storage.adls;
 import org.junit.jupiter.api.Test;
 
 import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.azure.storage.adls.models.AdlsFile;
 import io.kestra.plugin.azure.storage.blob.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -38,4 +40,36 @@ class ReadsTest extends AbstractTest {
 
         assertThat(run.getOutputFiles().size(), is(2));
     }
+
+    @Test
+    void concurrency() throws Exception {
+        String prefix = IdUtils.create();
+
+        for (int i = 0; i < 6; i++) {
+            upload("adls/azure/" + prefix);
+        }
+
+        Reads task = Reads.builder()
+            .id(ReadsTest.class.getSimpleName())
+            .type(Reads.class.getName())
+            .endpoint(Property.ofValue(this.adlsEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .fileSystem(Property.ofValue(this.fileSystem))
+            .directoryPath(Property.ofValue("adls/azure/" + prefix + "/"))
+            .concurrency(Property.ofValue(4))
+            .blockSize(Property.ofValue(128L))
+            .maxConcurrency(Property.ofValue(2))
+            .build();
+
+        RunContext runContext = runContext(task);
+        Reads.Output run = task.run(runContext);
+
+        assertThat(run.getFiles().size(), is(6));
+        assertThat(run.getOutputFiles().size(), is(6));
+        assertThat(
+            run.getFiles().stream().map(AdlsFile::getName).toList(),
+            is(run.getFiles().stream().map(AdlsFile::getName).sorted().toList())
+        );
+        assertThat((Double) runContext.metrics().stream().filter(metric -> metric.getName().equals("files.count")).findFirst().orElseThrow().getValue(), is(6D));
+    }
 }
@@ -1,6 +1,9 @@
 package io.kestra.plugin.azure.storage.adls;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -253,4 +256,82 @@ class TriggerTest extends AbstractTest {
         cleaner.run(runContext(cleaner));
     }
 
+    @Test
+    void shouldOnlyFireNewFilesWithWatermark() throws Exception {
+        Trigger trigger = Trigger.builder()
+            .id("adls-" + IdUtils.create())
+            .type(Trigger.class.getName())
+            .endpoint(Property.ofValue(this.adlsEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .fileSystem(Property.ofValue(fileSystem))
+            .directoryPath(Property.ofValue("trigger/adls/watermark"))
+            .recursive(Property.ofValue(true))
+            .mode(Property.ofValue(Trigger.Mode.WATERMARK))
+            .action(Property.ofValue(Trigger.Action.NONE))
+            .on(Property.ofValue(StatefulTriggerInterface.On.CREATE))
+            .interval(Duration.ofSeconds(10))
+            .build();
+
+        upload("trigger/adls/watermark");
+        upload("trigger/adls/watermark/sub");
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        Optional<Execution> first = trigger.evaluate(context.getKey(), context.getValue());
+        assertThat(first.isPresent(), is(true));
+
+        @SuppressWarnings("unchecked")
+        java.util.List<Object> files = (java.util.List<Object>) first.get().getTrigger().getVariables().get("files");
+        assertThat(files.size(), is(2));
+
+        Optional<Execution> second = trigger.evaluate(context.getKey(), context.getValue());
+        assertThat(second.isPresent(), is(false));
+
+        upload("trigger/adls/watermark");
+
+        Optional<Execution> third = trigger.evaluate(context.getKey(), context.getValue());
+        assertThat(third.isPresent(), is(true));
+
+        @SuppressWarnings("unchecked")
+        java.util.List<Object> newFiles = (java.util.List<Object>) third.get().getTrigger().getVariables().get("files");
+        assertThat(newFiles.size(), is(1));
+
+        DeleteFiles cleaner = deleteDir("trigger/adls/watermark").deleteDirectory(Property.ofValue(true)).build();
+        cleaner.run(runContext(cleaner));
+    }
+
+    @Test
+    void shouldOnlyListRecentPartitionsWithWatermark() throws Exception {
+        String today = DateTimeFormatter.ofPattern("yyyy/MM/dd").withZone(ZoneOffset.UTC).format(Instant.now());
+
+        Trigger trigger = Trigger.builder()
+            .id("adls-" + IdUtils.create())
+            .type(Trigger.class.getName())
+            .endpoint(Property.ofValue(this.adlsEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .fileSystem(Property.ofValue(fileSystem))
+            .directoryPath(Property.ofValue("trigger/adls/partitioned"))
+            .mode(Property.ofValue(Trigger.Mode.WATERMARK))
+            .partitionFormat(Property.ofValue("yyyy/MM/dd"))
+            .action(Property.ofValue(Trigger.Action.NONE))
+            .on(Property.ofValue(StatefulTriggerInterface.On.CREATE))
+            .interval(Duration.ofSeconds(10))
+            .build();
+
+        // recent, but outside of the listed partitions
+        upload("trigger/adls/partitioned/2000/01/01");
+        upload("trigger/adls/partitioned/" + today);
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        Optional<Execution> first = trigger.evaluate(context.getKey(), context.getValue());
+        assertThat(first.isPresent(), is(true));
+
+        @SuppressWarnings("unchecked")
+        java.util.List<Object> files = (java.util.List<Object>) first.get().getTrigger().getVariables().get("files");
+        assertThat(files.size(), is(1));
+
+        DeleteFiles cleaner = deleteDir("trigger/adls/partitioned").deleteDirectory(Property.ofValue(true)).build();
+        cleaner.run(runContext(cleaner));
+    }
 }
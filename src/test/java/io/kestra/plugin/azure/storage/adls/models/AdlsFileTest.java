@@ -7,11 +7,14 @@ import java.util.Base64;
 import org.junit.jupiter.api.Test;
 
 import com.azure.storage.file.datalake.DataLakeFileClient;
+import com.azure.storage.file.datalake.models.PathItem;
 import com.azure.storage.file.datalake.models.PathProperties;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AdlsFileTest {
@@ -63,4 +66,46 @@ class AdlsFileTest {
         // Double-check safety again
         assertThat(file.getContentMd5(), not(containsString("\u0000")));
     }
+
+    @Test
+    void shouldFetchPropertiesOnce() {
+        DataLakeFileClient mockClient = mock(DataLakeFileClient.class);
+        PathProperties mockProps = mock(PathProperties.class);
+        OffsetDateTime creationTime = OffsetDateTime.now().minusDays(1);
+        OffsetDateTime lastModified = OffsetDateTime.now();
+
+        when(mockClient.getFilePath()).thenReturn("dir/path/file.csv");
+        when(mockClient.getProperties()).thenReturn(mockProps);
+        when(mockProps.getCreationTime()).thenReturn(creationTime);
+        when(mockProps.getLastModified()).thenReturn(lastModified);
+
+        AdlsFile file = AdlsFile.of(mockClient);
+
+        verify(mockClient, times(1)).getProperties();
+        assertThat(file.getCreationTime(), is(creationTime.toInstant()));
+        assertThat(file.getLastModifed(), is(lastModified.toInstant()));
+    }
+
+    @Test
+    void shouldBuildFromPathItem() {
+        PathItem item = mock(PathItem.class);
+        OffsetDateTime lastModified = OffsetDateTime.now();
+
+        when(item.getName()).thenReturn("dir/path/file.csv");
+        when(item.getContentLength()).thenReturn(123L);
+        when(item.getLastModified()).thenReturn(lastModified);
+        when(item.getETag()).thenReturn("0x8D");
+        when(item.getOwner()).thenReturn("owner");
+
+        AdlsFile file = AdlsFile.of("filesystem", item);
+
+        assertThat(file.getFileSystem(), is("filesystem"));
+        assertThat(file.getName(), is("dir/path/file.csv"));
+        assertThat(file.getFileName(), is("file.csv"));
+        assertThat(file.getSize(), is(123L));
+        assertThat(file.getLastModifed(), is(lastModified.toInstant()));
+        assertThat(file.getETag(), is("0x8D"));
+        assertThat(file.getOwner(), is("owner"));
+        assertThat(file.getContentMd5(), is(nullValue()));
+    }
 }
@@ -59,4 +59,63 @@ class AppendTest extends AbstractTest {
             is(CharStreams.toString(new InputStreamReader(new FileInputStream(file("testFiles/appendTest.txt")))).concat(dataToAdd))
         );
     }
+
+    @Test
+    void fromFileInChunks() throws Exception {
+        String prefix = IdUtils.create();
+
+        Upload.Output upload = uploadStringFile("adls/azure/" + prefix);
+
+        Append append = Append.builder()
+            .id(AppendTest.class.getSimpleName())
+            .type(Append.class.getName())
+            .endpoint(Property.ofValue(this.adlsEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .fileSystem(Property.ofValue(this.fileSystem))
+            .filePath(Property.ofValue(upload.getFile().getName()))
+            .from(Property.ofValue(upload().toString()))
+            .chunkSize(Property.ofValue(64))
+            .concurrency(Property.ofValue(3))
+            .build();
+
+        Append.Output first = append.run(runContext(append));
+
+        // second append reuses the known size and ETag, without fetching the properties again
+        Append next = Append.builder()
+            .id(AppendTest.class.getSimpleName())
+            .type(Append.class.getName())
+            .endpoint(Property.ofValue(this.adlsEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .fileSystem(Property.ofValue(this.fileSystem))
+            .filePath(Property.ofValue(upload.getFile().getName()))
+            .data(Property.ofValue("tail"))
+            .position(Property.ofValue(first.getSize()))
+            .eTag(Property.ofValue(first.getETag()))
+            .build();
+
+        Append.Output second = next.run(runContext(next));
+        assertThat(second.getSize(), is(first.getSize() + 4));
+
+        Read download = Read.builder()
+            .id(AppendTest.class.getSimpleName())
+            .type(Read.class.getName())
+            .endpoint(Property.ofValue(this.adlsEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .fileSystem(Property.ofValue(this.fileSystem))
+            .filePath(Property.ofValue(upload.getFile().getName()))
+            .build();
+
+        Read.Output run = download.run(runContext(download));
+
+        InputStream get = storageInterface.get(TenantService.MAIN_TENANT, null, run.getFile().getUri());
+
+        assertThat(
+            CharStreams.toString(new InputStreamReader(get)),
+            is(
+                CharStreams.toString(new InputStreamReader(new FileInputStream(file("testFiles/appendTest.txt"))))
+                    + CharStreams.toString(new InputStreamReader(new FileInputStream(file("application.yml"))))
+                    + "tail"
+            )
+        );
+    }
 }
@@ -1,12 +1,25 @@
 package io.kestra.plugin.azure.storage.adls.update;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import com.azure.storage.file.datalake.models.AccessControlChangeCounters;
+import com.azure.storage.file.datalake.models.AccessControlChangeFailure;
+import com.azure.storage.file.datalake.models.AccessControlChangeResult;
+
 import io.kestra.core.models.property.Property;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.plugin.azure.storage.adls.AbstractTest;
 import io.kestra.plugin.azure.storage.adls.Upload;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 class SetAccessControlTest extends AbstractTest {
     @Test
     void run() throws Exception {
@@ -38,4 +51,68 @@ class SetAccessControlTest extends AbstractTest {
 
         setAccessControlTask.run(runContext(setAccessControlTask));
     }
+
+    @Test
+    void recursive() throws Exception {
+        String dir = "adls/azure/" + IdUtils.create();
+
+        for (int i = 0; i < 3; i++) {
+            upload(dir);
+            upload(dir + "/sub");
+        }
+
+        SetAccessControl task = SetAccessControl.builder()
+            .id(SetAccessControlTest.class.getSimpleName())
+            .type(SetAccessControl.class.getName())
+            .endpoint(Property.ofValue(this.adlsEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .fileSystem(Property.ofValue(this.fileSystem))
+            .filePath(Property.ofValue(dir))
+            .recursive(Property.ofValue(true))
+            .batchSize(Property.ofValue(2))
+            .continueOnFailure(Property.ofValue(true))
+            .ownerPermissions(
+                SetAccessControl.Permission.builder()
+                    .readPermission(Property.ofValue(true))
+                    .writePermission(Property.ofValue(true))
+                    .executePermission(Property.ofValue(true))
+                    .build()
+            )
+            .groupPermissions(
+                SetAccessControl.Permission.builder()
+                    .readPermission(Property.ofValue(true))
+                    .executePermission(Property.ofValue(true))
+                    .build()
+            )
+            .build();
+
+        SetAccessControl.Output output = task.run(runContext(task));
+
+        assertThat(output.getChangedFiles(), is(6L));
+        assertThat(output.getChangedDirectories(), is(2L));
+        assertThat(output.getFailedChanges(), is(0L));
+        assertThat(output.getContinuationToken(), nullValue());
+    }
+
+    @Test
+    void failedPaths() {
+        AccessControlChangeResult result = new AccessControlChangeResult()
+            .setCounters(new AccessControlChangeCounters()
+                .setChangedDirectoriesCount(1)
+                .setChangedFilesCount(2)
+                .setFailedChangesCount(1)
+            )
+            .setBatchFailures(List.of(new AccessControlChangeFailure()
+                .setName("dir/locked.csv")
+                .setErrorMessage("This request is not authorized to perform this operation.")
+                .setDirectory(false)
+            ))
+            .setContinuationToken("token");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> SetAccessControl.failures(result, false));
+        assertThat(exception.getMessage(), containsString("dir/locked.csv"));
+        assertThat(exception.getMessage(), containsString("'token'"));
+
+        assertThat(SetAccessControl.failures(result, true), contains("dir/locked.csv"));
+    }
 }
@@ -3,6 +3,8 @@ package io.kestra.plugin.azure.storage.blob;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -10,12 +12,14 @@ import com.azure.storage.blob.models.BlobStorageException;
 import com.google.common.io.CharStreams;
 
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.IdUtils;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class AllTest extends AbstractTest {
@@ -111,4 +115,73 @@ class AllTest extends AbstractTest {
         List.Output listWithDefaultLimitOutput = listWithDefaultLimit.run(runContext(listWithDefaultLimit));
         assertThat(listWithDefaultLimitOutput.getBlobs().size(), is(25));
     }
+
+    @Test
+    void uploadConcurrently() throws Exception {
+        String prefix = IdUtils.create();
+
+        java.util.List<Map<String, Object>> sources = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            sources.add(Map.of("uri", upload().toString()));
+        }
+
+        Upload upload = Upload.builder()
+            .id(AllTest.class.getSimpleName())
+            .type(Upload.class.getName())
+            .endpoint(Property.ofValue(this.storageEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .container(Property.ofValue(this.container))
+            .from(sources)
+            .name(Property.ofValue("tasks/azure/" + prefix + "/first.yml"))
+            .metadata(Property.ofValue(Map.of("source", "kestra")))
+            .concurrent(3)
+            .blockSize(Property.ofValue(1024L * 1024L))
+            .build();
+
+        Upload.Output output = upload.run(runContext(upload));
+        assertThat(output.getBlobs().size(), is(5));
+        assertThat(output.getBlobs().getFirst().getName(), is("tasks/azure/" + prefix + "/first.yml"));
+
+        List list = List.builder()
+            .id(AllTest.class.getSimpleName())
+            .type(List.class.getName())
+            .endpoint(Property.ofValue(this.storageEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .container(Property.ofValue(this.container))
+            .prefix(Property.ofValue("tasks/azure/" + prefix + "/"))
+            .build();
+
+        assertThat(list.run(runContext(list)).getBlobs().size(), is(5));
+    }
+
+    @Test
+    void listContinuationToken() throws Exception {
+        String prefix = IdUtils.create();
+
+        for (int i = 0; i < 12; i++) {
+            upload("tasks/azure/" + prefix);
+        }
+
+        List first = list()
+            .prefix(Property.ofValue("tasks/azure/" + prefix + "/"))
+            .maxFiles(Property.ofValue(10))
+            .build();
+
+        List.Output firstOutput = first.run(runContext(first));
+        assertThat(firstOutput.getBlobs().size(), is(10));
+        assertThat(firstOutput.getContinuationToken(), notNullValue());
+
+        List next = list()
+            .prefix(Property.ofValue("tasks/azure/" + prefix + "/"))
+            .maxFiles(Property.ofValue(10))
+            .continuationToken(Property.ofValue(firstOutput.getContinuationToken()))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .build();
+
+        List.Output nextOutput = next.run(runContext(next));
+        assertThat(nextOutput.getCount(), is(2L));
+        assertThat(nextOutput.getBlobs(), nullValue());
+        assertThat(nextOutput.getUri(), notNullValue());
+        assertThat(nextOutput.getContinuationToken(), nullValue());
+    }
 }
@@ -1,12 +1,14 @@
 package io.kestra.plugin.azure.storage.blob;
 
 import io.kestra.core.models.property.Property;
+import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.plugin.azure.BaseTest;
 import io.kestra.plugin.azure.storage.blob.abstracts.ActionInterface;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.security.MessageDigest;
 import java.util.HexFormat;
@@ -44,6 +46,31 @@ class ChecksumTest extends AbstractTest {
         assertThat(run.getBlob().getUri(), is(notNullValue()));
     }
 
+    @Test
+    void downloadInSmallRangesStreamsWholeContent() throws Exception {
+        String prefix = IdUtils.create();
+        Upload.Output upload = upload("tasks/azure/" + prefix, true);
+
+        Download download = Download.builder()
+            .id(ChecksumTest.class.getSimpleName())
+            .type(Download.class.getName())
+            .endpoint(Property.ofValue(this.storageEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .container(Property.ofValue(this.container))
+            .name(Property.ofValue(upload.getBlob().getName()))
+            .validateChecksum(Property.ofValue(true))
+            .failOnMissingChecksum(Property.ofValue(true))
+            .blockSize(Property.ofValue(64))
+            .maxConcurrency(Property.ofValue(3))
+            .build();
+
+        Download.Output run = download.run(runContext(download));
+
+        try (InputStream get = storageInterface.get(TenantService.MAIN_TENANT, null, run.getBlob().getUri())) {
+            assertThat(get.readAllBytes(), is(Files.readAllBytes(BaseTest.file("application.yml").toPath())));
+        }
+    }
+
     @Test
     void downloadWithMismatchedExpectedChecksumFails() throws Exception {
         String prefix = IdUtils.create();
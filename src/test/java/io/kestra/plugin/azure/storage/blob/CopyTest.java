@@ -1,7 +1,17 @@
 package io.kestra.plugin.azure.storage.blob;
 
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
+import com.azure.core.util.BinaryData;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.BlockListType;
+import com.azure.storage.blob.specialized.AppendBlobClient;
+
 import io.kestra.core.models.property.Property;
 import io.kestra.core.utils.IdUtils;
 
@@ -61,4 +71,79 @@ class CopyTest extends AbstractTest {
     void delete() throws Exception {
         this.run(true);
     }
+
+    @Test
+    void stagedCopy() throws Exception {
+        byte[] content = new byte[10 * 1024 + 123];
+        new Random().nextBytes(content);
+        String prefix = IdUtils.create();
+
+        BlobContainerClient containerClient = containerClient();
+        containerClient.getBlobClient(prefix + "/from.bin").upload(BinaryData.fromBytes(content));
+
+        Copy task = copy(prefix)
+            .maxSingleCopySize(Property.ofValue(1L))
+            .blockSize(Property.ofValue(1024L))
+            .concurrency(Property.ofValue(4))
+            .build();
+
+        task.run(runContext(task));
+
+        BlobClient copied = containerClient.getBlobClient(prefix + "/to.bin");
+        assertThat(copied.downloadContent().toBytes(), is(content));
+        assertThat(copied.getBlockBlobClient().listBlocks(BlockListType.COMMITTED).getCommittedBlocks().size(), is(11));
+
+        DeleteList delete = deleteDir(prefix).build();
+        delete.run(runContext(delete));
+    }
+
+    @Test
+    void asyncCopy() throws Exception {
+        byte[] content = new byte[4 * 1024];
+        new Random().nextBytes(content);
+        String prefix = IdUtils.create();
+
+        BlobContainerClient containerClient = containerClient();
+        AppendBlobClient from = containerClient.getBlobClient(prefix + "/from.bin").getAppendBlobClient();
+        from.create();
+        from.appendBlock(new ByteArrayInputStream(content), content.length);
+
+        Copy task = copy(prefix)
+            .maxSingleCopySize(Property.ofValue(1L))
+            .build();
+
+        task.run(runContext(task));
+
+        assertThat(containerClient.getBlobClient(prefix + "/to.bin").downloadContent().toBytes(), is(content));
+
+        DeleteList delete = deleteDir(prefix).build();
+        delete.run(runContext(delete));
+    }
+
+    private Copy.CopyBuilder<?, ?> copy(String prefix) {
+        return Copy.builder()
+            .id(CopyTest.class.getSimpleName())
+            .type(Copy.class.getName())
+            .endpoint(Property.ofValue(this.storageEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .from(
+                Copy.CopyObject.builder()
+                    .container(Property.ofValue(this.container))
+                    .name(Property.ofValue(prefix + "/from.bin"))
+                    .build()
+            )
+            .to(
+                Copy.CopyObject.builder()
+                    .container(Property.ofValue(this.container))
+                    .name(Property.ofValue(prefix + "/to.bin"))
+                    .build()
+            );
+    }
+
+    private BlobContainerClient containerClient() {
+        return new BlobServiceClientBuilder()
+            .connectionString(connectionString)
+            .buildClient()
+            .getBlobContainerClient(this.container);
+    }
 }
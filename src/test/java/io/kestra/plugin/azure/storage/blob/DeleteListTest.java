@@ -33,4 +33,26 @@ class DeleteListTest extends AbstractTest {
         assertThat(run.getCount(), is(10L));
         assertThat(run.getSize(), greaterThan(1000L));
     }
+
+    @Test
+    void multipleBatches() throws Exception {
+        String prefix = IdUtils.create();
+
+        for (int i = 0; i < 260; i++) {
+            upload("/tasks/" + prefix + "/");
+        }
+
+        DeleteList task = DeleteList.builder()
+            .id(DeleteListTest.class.getSimpleName())
+            .type(List.class.getName())
+            .endpoint(Property.ofValue(this.storageEndpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .container(Property.ofValue(this.container))
+            .prefix(Property.ofValue("/tasks/" + prefix + "/"))
+            .build();
+
+        DeleteList.Output run = task.run(runContext(task));
+        assertThat(run.getCount(), is(260L));
+        assertThat(run.getSize(), greaterThan(1000L));
+    }
 }
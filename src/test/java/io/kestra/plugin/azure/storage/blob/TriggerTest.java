@@ -18,6 +18,7 @@ import io.kestra.plugin.azure.storage.blob.abstracts.ActionInterface;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 
 @KestraTest
 class TriggerTest extends AbstractTest {
@@ -172,4 +173,118 @@ class TriggerTest extends AbstractTest {
         Optional<Execution> updateExecution = trigger.evaluate(context.getKey(), context.getValue());
         assertThat(updateExecution.isPresent(), is(true));
     }
+
+    @Test
+    void watermark() throws Exception {
+        String toUploadDir = "trigger/watermark-" + IdUtils.create();
+        try {
+            upload(toUploadDir);
+            upload(toUploadDir);
+
+            Trigger trigger = Trigger.builder()
+                .id("blob-watermark-" + IdUtils.create())
+                .type(Trigger.class.getName())
+                .endpoint(Property.ofValue(storageEndpoint))
+                .connectionString(Property.ofValue(connectionString))
+                .container(Property.ofValue(container))
+                .prefix(Property.ofValue(toUploadDir))
+                .action(Property.ofValue(ActionInterface.Action.NONE))
+                .mode(Property.ofValue(Trigger.Mode.WATERMARK))
+                .interval(Duration.ofSeconds(10))
+                .build();
+
+            Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+            Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+            assertThat(execution.isPresent(), is(true));
+
+            @SuppressWarnings("unchecked")
+            java.util.List<Blob> blobs = (java.util.List<Blob>) execution.get().getTrigger().getVariables().get("blobs");
+            assertThat(blobs.size(), is(2));
+
+            assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+
+            upload(toUploadDir);
+
+            execution = trigger.evaluate(context.getKey(), context.getValue());
+            assertThat(execution.isPresent(), is(true));
+
+            @SuppressWarnings("unchecked")
+            java.util.List<Blob> newBlobs = (java.util.List<Blob>) execution.get().getTrigger().getVariables().get("blobs");
+            assertThat(newBlobs.size(), is(1));
+        } finally {
+            DeleteList cleaner = deleteDir(toUploadDir).build();
+            cleaner.run(runContext(cleaner));
+        }
+    }
+
+    @Test
+    void downloadNone() throws Exception {
+        String toUploadDir = "trigger/download-none-" + IdUtils.create();
+        try {
+            upload(toUploadDir);
+            upload(toUploadDir);
+
+            Trigger trigger = Trigger.builder()
+                .id("blob-download-none-" + IdUtils.create())
+                .type(Trigger.class.getName())
+                .endpoint(Property.ofValue(storageEndpoint))
+                .connectionString(Property.ofValue(connectionString))
+                .container(Property.ofValue(container))
+                .prefix(Property.ofValue(toUploadDir))
+                .action(Property.ofValue(ActionInterface.Action.NONE))
+                .download(Property.ofValue(Trigger.DownloadMode.NONE))
+                .interval(Duration.ofSeconds(10))
+                .build();
+
+            Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+            Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+            assertThat(execution.isPresent(), is(true));
+
+            @SuppressWarnings("unchecked")
+            java.util.List<Map<String, Object>> blobs = (java.util.List<Map<String, Object>>) execution.get().getTrigger().getVariables().get("blobs");
+            assertThat(blobs.size(), is(2));
+            assertThat(blobs.getFirst().get("uri").toString(), startsWith("http"));
+        } finally {
+            DeleteList cleaner = deleteDir(toUploadDir).build();
+            cleaner.run(runContext(cleaner));
+        }
+    }
+
+    @Test
+    void parallelDownload() throws Exception {
+        String toUploadDir = "trigger/download-parallel-" + IdUtils.create();
+        try {
+            for (int i = 0; i < 5; i++) {
+                upload(toUploadDir);
+            }
+
+            Trigger trigger = Trigger.builder()
+                .id("blob-download-parallel-" + IdUtils.create())
+                .type(Trigger.class.getName())
+                .endpoint(Property.ofValue(storageEndpoint))
+                .connectionString(Property.ofValue(connectionString))
+                .container(Property.ofValue(container))
+                .prefix(Property.ofValue(toUploadDir))
+                .action(Property.ofValue(ActionInterface.Action.NONE))
+                .download(Property.ofValue(Trigger.DownloadMode.PARALLEL))
+                .downloadConcurrency(Property.ofValue(3))
+                .interval(Duration.ofSeconds(10))
+                .build();
+
+            Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+            Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+            assertThat(execution.isPresent(), is(true));
+
+            @SuppressWarnings("unchecked")
+            java.util.List<Map<String, Object>> blobs = (java.util.List<Map<String, Object>>) execution.get().getTrigger().getVariables().get("blobs");
+            assertThat(blobs.size(), is(5));
+            assertThat(blobs.getFirst().get("uri").toString(), startsWith("kestra://"));
+        } finally {
+            DeleteList cleaner = deleteDir(toUploadDir).build();
+            cleaner.run(runContext(cleaner));
+        }
+    }
 }
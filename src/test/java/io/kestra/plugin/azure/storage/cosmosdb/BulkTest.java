@@ -0,0 +1,104 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class BulkTest extends CosmosContainerBaseTest<Bulk.BulkBuilder<?, ?>> {
+    @Override
+    protected Bulk.BulkBuilder<?, ?> instantiateBaseTaskBuilder() {
+        return Bulk.builder();
+    }
+
+    @Test
+    void shouldUpsertThenDeleteItems() throws Exception {
+        //region GIVEN
+        List<Map<String, Object>> items = List.of(
+            Map.of("id", "bulk-test-one" + testId, "pk", "bulk", "key", "value"),
+            Map.of("id", "bulk-test-two" + testId, "pk", "bulk", "key", "value")
+        );
+
+        Bulk upsert = getBaseTaskBuilder()
+            .from(items)
+            .partitionKeyDefinition(Property.ofValue(PARTITION_KEY_DEFINITION))
+            .batchSize(Property.ofValue(1))
+            .build();
+
+        Bulk delete = getBaseTaskBuilder()
+            .from(items)
+            .operationType(Property.ofValue(Bulk.OperationType.DELETE))
+            .partitionKeyDefinition(Property.ofValue(PARTITION_KEY_DEFINITION))
+            .build();
+        //endregion
+
+        //region WHEN
+        final RunContext runContext = runContextFactory.of();
+
+        Bulk.Output upserted = upsert.run(runContext);
+        Bulk.Output deleted = delete.run(runContextFactory.of());
+        //endregion
+
+        //region THEN
+        assertThat(upserted.getCount()).isEqualTo(2L);
+        assertThat(upserted.getFailed()).isEqualTo(0L);
+        assertThat(upserted.getErrors()).isNull();
+        assertThat(upserted.getRequestCharge()).isGreaterThan(0D);
+        assertThat(deleted.getCount()).isEqualTo(2L);
+        assertThat(deleted.getFailed()).isEqualTo(0L);
+        //endregion
+    }
+
+    @Test
+    void shouldWriteFailedItemsToErrorsFile() throws Exception {
+        //region GIVEN
+        Map<String, Object> item = createItem("bulk-duplicate-test", Map.of("key", "value"));
+
+        Bulk bulk = getBaseTaskBuilder()
+            .from(List.of(item))
+            .operationType(Property.ofValue(Bulk.OperationType.CREATE))
+            .partitionKeyDefinition(Property.ofValue(PARTITION_KEY_DEFINITION))
+            .build();
+        //endregion
+
+        //region WHEN
+        Bulk.Output output = bulk.run(runContextFactory.of());
+        //endregion
+
+        //region THEN
+        assertThat(output.getCount()).isEqualTo(1L);
+        assertThat(output.getFailed()).isEqualTo(1L);
+        assertThat(output.getErrors()).isNotNull();
+        //endregion
+    }
+
+    @Test
+    void shouldWriteInvalidRecordsToErrorsFile() throws Exception {
+        //region GIVEN
+        Bulk bulk = getBaseTaskBuilder()
+            .from(List.of(
+                Map.of("id", "bulk-valid-test" + testId, "pk", "bulk", "key", "value"),
+                Map.of("pk", "bulk", "key", "value"),
+                "not a document"
+            ))
+            .operationType(Property.ofValue(Bulk.OperationType.REPLACE))
+            .partitionKeyDefinition(Property.ofValue(PARTITION_KEY_DEFINITION))
+            .build();
+        //endregion
+
+        //region WHEN
+        Bulk.Output output = bulk.run(runContextFactory.of());
+        //endregion
+
+        //region THEN
+        assertThat(output.getCount()).isEqualTo(3L);
+        assertThat(output.getFailed()).isEqualTo(3L);
+        assertThat(output.getErrors()).isNotNull();
+        //endregion
+    }
+}
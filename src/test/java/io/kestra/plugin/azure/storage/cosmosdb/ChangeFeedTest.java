@@ -0,0 +1,80 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class ChangeFeedTest extends CosmosContainerBaseTest<ChangeFeed.ChangeFeedBuilder<?, ?>> {
+    @Override
+    protected ChangeFeed.ChangeFeedBuilder<?, ?> instantiateBaseTaskBuilder() {
+        return ChangeFeed.builder();
+    }
+
+    @Test
+    void shouldOnlyReadChangesSinceContinuationTokens() throws Exception {
+        //region GIVEN
+        ChangeFeed.Output now = getBaseTaskBuilder()
+            .startFrom(Property.ofValue(ChangeFeed.StartFrom.NOW))
+            .build()
+            .run(runContextFactory.of());
+
+        createItem("change-feed-test", Map.of("key", "value"));
+        //endregion
+
+        //region WHEN
+        ChangeFeed.Output changes = getBaseTaskBuilder()
+            .continuationTokens(Property.ofValue(now.getContinuationTokens()))
+            .build()
+            .run(runContextFactory.of());
+        //endregion
+
+        //region THEN
+        assertThat(now.getCount()).isEqualTo(0L);
+        assertThat(now.getUri()).isNull();
+        assertThat(now.getContinuationTokens().isEmpty()).isFalse();
+        assertThat(changes.getCount()).isGreaterThanOrEqualTo(1L);
+        assertThat(changes.getUri()).isNotNull();
+        //endregion
+    }
+
+    @Test
+    void triggerShouldResumeFromItsState() throws Exception {
+        //region GIVEN
+        Trigger trigger = Trigger.builder()
+            .id("cosmos-" + IdUtils.create())
+            .type(Trigger.class.getName())
+            .endpoint(Property.ofValue(endpoint))
+            .connectionString(Property.ofValue(connectionString))
+            .databaseId(Property.ofValue(databaseId))
+            .containerId(Property.ofValue(containerId))
+            .startFrom(Property.ofValue(ChangeFeed.StartFrom.NOW))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        //endregion
+
+        //region WHEN
+        Optional<Execution> first = trigger.evaluate(context.getKey(), context.getValue());
+
+        createItem("change-feed-trigger-test", Map.of("key", "value"));
+
+        Optional<Execution> second = trigger.evaluate(context.getKey(), context.getValue());
+        Optional<Execution> third = trigger.evaluate(context.getKey(), context.getValue());
+        //endregion
+
+        //region THEN
+        assertThat(first.isPresent()).isFalse();
+        assertThat(second.isPresent()).isTrue();
+        assertThat(third.isPresent()).isFalse();
+        //endregion
+    }
+}
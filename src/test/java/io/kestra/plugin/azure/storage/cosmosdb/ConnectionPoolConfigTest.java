@@ -0,0 +1,50 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.azure.cosmos.DirectConnectionConfig;
+import com.azure.cosmos.GatewayConnectionConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPoolConfigTest {
+    @Test
+    void shouldMapDirectModeSettings() {
+        ConnectionPoolConfig config = new ConnectionPoolConfig(8, 20, Duration.ofSeconds(3), 50, Duration.ofMinutes(2));
+
+        DirectConnectionConfig direct = config.toDirectConnectionConfig();
+
+        assertThat(direct.getMaxConnectionsPerEndpoint()).isEqualTo(8);
+        assertThat(direct.getMaxRequestsPerConnection()).isEqualTo(20);
+        assertThat(direct.getConnectTimeout()).isEqualTo(Duration.ofSeconds(3));
+        assertThat(direct.getIdleConnectionTimeout()).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @Test
+    void shouldMapGatewayModeSettings() {
+        ConnectionPoolConfig config = new ConnectionPoolConfig(8, 20, Duration.ofSeconds(3), 50, Duration.ofMinutes(2));
+
+        GatewayConnectionConfig gateway = config.toGatewayConnectionConfig();
+
+        assertThat(gateway.getMaxConnectionPoolSize()).isEqualTo(50);
+        assertThat(gateway.getIdleConnectionTimeout()).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @Test
+    void shouldKeepSdkDefaultsWhenUnset() {
+        ConnectionPoolConfig config = new ConnectionPoolConfig(null, null, null, null, null);
+        DirectConnectionConfig directDefaults = DirectConnectionConfig.getDefaultConfig();
+        GatewayConnectionConfig gatewayDefaults = GatewayConnectionConfig.getDefaultConfig();
+
+        DirectConnectionConfig direct = config.toDirectConnectionConfig();
+        GatewayConnectionConfig gateway = config.toGatewayConnectionConfig();
+
+        assertThat(direct.getMaxConnectionsPerEndpoint()).isEqualTo(directDefaults.getMaxConnectionsPerEndpoint());
+        assertThat(direct.getMaxRequestsPerConnection()).isEqualTo(directDefaults.getMaxRequestsPerConnection());
+        assertThat(direct.getConnectTimeout()).isEqualTo(directDefaults.getConnectTimeout());
+        assertThat(gateway.getMaxConnectionPoolSize()).isEqualTo(gatewayDefaults.getMaxConnectionPoolSize());
+        assertThat(gateway.getIdleConnectionTimeout()).isEqualTo(gatewayDefaults.getIdleConnectionTimeout());
+    }
+}
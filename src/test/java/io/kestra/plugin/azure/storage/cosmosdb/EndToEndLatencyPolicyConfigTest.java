@@ -0,0 +1,43 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.azure.cosmos.CosmosEndToEndOperationLatencyPolicyConfig;
+import com.azure.cosmos.ThresholdBasedAvailabilityStrategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndToEndLatencyPolicyConfigTest {
+    @Test
+    void shouldMapTimeoutWithoutAvailabilityStrategy() {
+        CosmosEndToEndOperationLatencyPolicyConfig config = new EndToEndLatencyPolicyConfig(Duration.ofSeconds(2), null, null).toAzureConfig();
+
+        assertThat(config.getEndToEndOperationTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(config.isEnabled()).isTrue();
+        assertThat(config.getAvailabilityStrategy()).isNull();
+    }
+
+    @Test
+    void shouldMapThresholdToAvailabilityStrategy() {
+        CosmosEndToEndOperationLatencyPolicyConfig config = new EndToEndLatencyPolicyConfig(
+            Duration.ofSeconds(2),
+            Duration.ofMillis(500),
+            Duration.ofMillis(200)
+        ).toAzureConfig();
+
+        assertThat(config.getAvailabilityStrategy()).isInstanceOf(ThresholdBasedAvailabilityStrategy.class);
+        ThresholdBasedAvailabilityStrategy strategy = (ThresholdBasedAvailabilityStrategy) config.getAvailabilityStrategy();
+        assertThat(strategy.getThreshold()).isEqualTo(Duration.ofMillis(500));
+        assertThat(strategy.getThresholdStep()).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void shouldDefaultThresholdStep() {
+        CosmosEndToEndOperationLatencyPolicyConfig config = new EndToEndLatencyPolicyConfig(Duration.ofSeconds(2), Duration.ofMillis(500), null).toAzureConfig();
+
+        ThresholdBasedAvailabilityStrategy strategy = (ThresholdBasedAvailabilityStrategy) config.getAvailabilityStrategy();
+        assertThat(strategy.getThresholdStep()).isEqualTo(Duration.ofMillis(100));
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -18,6 +19,48 @@ class QueriesTest extends CosmosContainerBaseTest<Queries.QueriesBuilder<?, ?>>
         return Queries.builder();
     }
 
+    @Test
+    void shouldStoreOrFetchEachQueryWithBoundedConcurrency() throws Exception {
+        //region GIVEN
+        Map<String, Object> itemOne = createItem(
+            "mixed-queries-test-one",
+            Map.of("secondId", "mixed-queries-test-one")
+        );
+        Map<String, Object> itemTwo = createItem(
+            "mixed-queries-test-two",
+            Map.of("secondId", "mixed-queries-test-two")
+        );
+
+        Map<String, Queries.QueriesOptions> queries = Map.of(
+            "stored", Queries.QueriesOptions.builder()
+                .query("SELECT * FROM c WHERE c.id = '%s'".formatted(itemOne.get("id")))
+                .fetchType(FetchType.STORE)
+                .maxDegreeOfParallelism(2)
+                .maxBufferedItemCount(10)
+                .build(),
+            "fetched", Queries.QueriesOptions.builder()
+                .query("SELECT * FROM c WHERE c.id = '%s'".formatted(itemTwo.get("id")))
+                .build()
+        );
+
+        Queries queriesTask = getBaseTaskBuilder()
+            .queries(Property.ofValue(queries))
+            .concurrency(Property.ofValue(1))
+            .build();
+        //endregion
+
+        //region WHEN
+        Queries.Output queriesTaskOutput = queriesTask.run(runContextFactory.of());
+        //endregion
+
+        //region THEN
+        assertThat(queriesTaskOutput.uris().get("stored")).isNotNull();
+        assertThat(queriesTaskOutput.results().containsKey("stored")).isFalse();
+        assertThat(queriesTaskOutput.results().get("fetched").getFirst()).isEqualTo(itemTwo);
+        assertThat(queriesTaskOutput.size()).isEqualTo(2L);
+        //endregion
+    }
+
     @Test
     void shouldReturnMapOfQueryResults() throws Exception {
         //region GIVEN
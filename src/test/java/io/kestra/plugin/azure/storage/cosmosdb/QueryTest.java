@@ -1,13 +1,21 @@
 package io.kestra.plugin.azure.storage.cosmosdb;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 import org.assertj.core.api.AbstractThrowableAssert;
 import org.junit.jupiter.api.Test;
 
+import com.azure.cosmos.ConnectionMode;
+
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -39,6 +47,30 @@ class QueryTest extends CosmosContainerBaseTest<Query.QueryBuilder<?, ?>> {
         //endregion
     }
 
+    @Test
+    void shouldQueryInGatewayMode() throws Exception {
+        //region GIVEN
+        Map<String, Object> item = createItem("query-gateway-test", Map.of("key", "value"));
+
+        Query query = getBaseTaskBuilder()
+            .query(Property.ofValue("SELECT * FROM c WHERE c.id = '" + item.get("id") + "'"))
+            .connectionMode(Property.ofValue(ConnectionMode.GATEWAY))
+            .connectionPool(Property.ofValue(new ConnectionPoolConfig(null, null, null, 10, Duration.ofMinutes(1))))
+            .throttlingRetry(Property.ofValue(new ThrottlingRetryConfig(3, Duration.ofSeconds(10))))
+            .endToEndLatencyPolicy(Property.ofValue(new EndToEndLatencyPolicyConfig(Duration.ofSeconds(30), null, null)))
+            .reuseClient(Property.ofValue(false))
+            .build();
+        //endregion
+
+        //region WHEN
+        Query.Output output = query.run(runContextFactory.of());
+        //endregion
+
+        //region THEN
+        assertThat(output.queryResults().getFirst()).isEqualTo(item);
+        //endregion
+    }
+
     @Test
     void shouldReturnQueriedForItemsWhenPartitionKeySet() throws Exception {
         //region GIVEN
@@ -95,6 +127,99 @@ class QueryTest extends CosmosContainerBaseTest<Query.QueryBuilder<?, ?>> {
         //endregion
     }
 
+    @Test
+    void shouldStoreQueriedForItemsPageByPage() throws Exception {
+        //region GIVEN
+        createItem("query-store-test-one", Map.of("key", "query-store-" + testId));
+        createItem("query-store-test-two", Map.of("key", "query-store-" + testId));
+
+        Query query = getBaseTaskBuilder()
+            .query(Property.ofValue("SELECT * FROM c WHERE c.key = 'query-store-" + testId + "'"))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .maxItemCount(Property.ofValue(1))
+            .build();
+        //endregion
+
+        //region WHEN
+        final RunContext runContext = runContextFactory.of();
+
+        Query.Output output = query.run(runContext);
+        //endregion
+
+        //region THEN
+        assertThat(output.queryResults()).isNull();
+        assertThat(output.size()).isEqualTo(2L);
+        assertThat(output.requestCharge()).isGreaterThan(0D);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.uri())))) {
+            List<Object> stored = FileSerde.readAll(reader).collectList().block();
+            assertThat(stored.size()).isEqualTo(2);
+        }
+        //endregion
+    }
+
+    @Test
+    void shouldResumeQueryFromContinuationToken() throws Exception {
+        //region GIVEN
+        String pk = "query-pages-" + testId;
+        createItem("query-pages-test-one", Map.of("pk", pk));
+        createItem("query-pages-test-two", Map.of("pk", pk));
+
+        Query first = getBaseTaskBuilder()
+            .query(Property.ofValue("SELECT * FROM c"))
+            .partitionKey(Property.ofValue(Map.of("pk", pk)))
+            .partitionKeyDefinition(Property.ofValue(PARTITION_KEY_DEFINITION))
+            .maxItemCount(Property.ofValue(1))
+            .maxPages(Property.ofValue(1))
+            .build();
+        //endregion
+
+        //region WHEN
+        Query.Output firstOutput = first.run(runContextFactory.of());
+
+        Query second = getBaseTaskBuilder()
+            .query(Property.ofValue("SELECT * FROM c"))
+            .partitionKey(Property.ofValue(Map.of("pk", pk)))
+            .partitionKeyDefinition(Property.ofValue(PARTITION_KEY_DEFINITION))
+            .maxItemCount(Property.ofValue(1))
+            .continuationToken(Property.ofValue(firstOutput.continuationToken()))
+            .build();
+
+        Query.Output secondOutput = second.run(runContextFactory.of());
+        //endregion
+
+        //region THEN
+        assertThat(firstOutput.size()).isEqualTo(1L);
+        assertThat(firstOutput.continuationToken()).isNotNull();
+        assertThat(secondOutput.size()).isEqualTo(1L);
+        assertThat(secondOutput.queryResults().getFirst()).isNotEqualTo(firstOutput.queryResults().getFirst());
+        //endregion
+    }
+
+    @Test
+    void shouldStartFromFirstPageWithBlankContinuationToken() throws Exception {
+        //region GIVEN
+        String pk = "query-blank-token-" + testId;
+        createItem("query-blank-token-test-one", Map.of("pk", pk));
+        createItem("query-blank-token-test-two", Map.of("pk", pk));
+
+        Query query = getBaseTaskBuilder()
+            .query(Property.ofValue("SELECT * FROM c"))
+            .partitionKey(Property.ofValue(Map.of("pk", pk)))
+            .partitionKeyDefinition(Property.ofValue(PARTITION_KEY_DEFINITION))
+            .continuationToken(Property.ofValue(""))
+            .build();
+        //endregion
+
+        //region WHEN
+        Query.Output output = query.run(runContextFactory.of());
+        //endregion
+
+        //region THEN
+        assertThat(output.size()).isEqualTo(2L);
+        //endregion
+    }
+
     @Test
     void shouldThrowErrorWhenFeedRangeSetWithoutPartitionDefinition() {
         //region GIVEN
@@ -0,0 +1,29 @@
+package io.kestra.plugin.azure.storage.cosmosdb;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.azure.cosmos.ThrottlingRetryOptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThrottlingRetryConfigTest {
+    @Test
+    void shouldMapRetryOptions() {
+        ThrottlingRetryOptions options = new ThrottlingRetryConfig(3, Duration.ofSeconds(10)).toThrottlingRetryOptions();
+
+        assertThat(options.getMaxRetryAttemptsOnThrottledRequests()).isEqualTo(3);
+        assertThat(options.getMaxRetryWaitTime()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldKeepSdkDefaultsWhenUnset() {
+        ThrottlingRetryOptions defaults = new ThrottlingRetryOptions();
+
+        ThrottlingRetryOptions options = new ThrottlingRetryConfig(null, null).toThrottlingRetryOptions();
+
+        assertThat(options.getMaxRetryAttemptsOnThrottledRequests()).isEqualTo(defaults.getMaxRetryAttemptsOnThrottledRequests());
+        assertThat(options.getMaxRetryWaitTime()).isEqualTo(defaults.getMaxRetryWaitTime());
+    }
+}
@@ -0,0 +1,126 @@
+package io.kestra.plugin.azure.storage.cosmosdb.services;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.azure.cosmos.CosmosAsyncClient;
+
+import io.kestra.core.utils.IdUtils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CosmosClientCacheTest {
+    @Test
+    void shouldShareClientForSameKey() {
+        String key = IdUtils.create();
+        AtomicInteger created = new AtomicInteger();
+
+        CosmosClientCache.Lease first = CosmosClientCache.acquire(key, Duration.ofMinutes(10), () ->
+        {
+            created.incrementAndGet();
+            return Mockito.mock(CosmosAsyncClient.class);
+        });
+        CosmosClientCache.Lease second = CosmosClientCache.acquire(key, Duration.ofMinutes(10), () ->
+        {
+            created.incrementAndGet();
+            return Mockito.mock(CosmosAsyncClient.class);
+        });
+
+        assertThat(created.get(), is(1));
+        assertThat(second.client(), sameInstance(first.client()));
+
+        first.close();
+        second.close();
+
+        Mockito.verify(first.client(), Mockito.never()).close();
+    }
+
+    @Test
+    void shouldCloseIdleClientOnlyOnceReleased() throws Exception {
+        String key = IdUtils.create();
+        CosmosAsyncClient client = Mockito.mock(CosmosAsyncClient.class);
+
+        CosmosClientCache.Lease lease = CosmosClientCache.acquire(key, Duration.ZERO, () -> client);
+
+        CosmosClientCache.evictIdle();
+        Mockito.verify(client, Mockito.never()).close();
+
+        lease.close();
+        Thread.sleep(1);
+        CosmosClientCache.evictIdle();
+        Mockito.verify(client).close();
+    }
+
+    @Test
+    void shouldKeepEvictingWhenCloseFails() throws Exception {
+        CosmosAsyncClient failing = Mockito.mock(CosmosAsyncClient.class);
+        CosmosAsyncClient client = Mockito.mock(CosmosAsyncClient.class);
+        Mockito.doThrow(new IllegalStateException("close failed")).when(failing).close();
+
+        CosmosClientCache.acquire(IdUtils.create(), Duration.ZERO, () -> failing).close();
+        CosmosClientCache.acquire(IdUtils.create(), Duration.ZERO, () -> client).close();
+        Thread.sleep(1);
+
+        CosmosClientCache.evictIdle();
+
+        Mockito.verify(failing).close();
+        Mockito.verify(client).close();
+    }
+
+    @Test
+    void shouldCloseEvictedClientOnceRemoved() throws Exception {
+        String key = IdUtils.create();
+        CosmosAsyncClient evicted = Mockito.mock(CosmosAsyncClient.class);
+        AtomicReference<CosmosClientCache.Lease> reacquired = new AtomicReference<>();
+
+        // a run acquiring the key while the evicted client is closing gets a new client
+        Mockito.doAnswer(invocation ->
+        {
+            reacquired.set(CosmosClientCache.acquire(key, Duration.ofMinutes(10), () -> Mockito.mock(CosmosAsyncClient.class)));
+            return null;
+        }).when(evicted).close();
+
+        CosmosClientCache.acquire(key, Duration.ZERO, () -> evicted).close();
+        Thread.sleep(1);
+        CosmosClientCache.evictIdle();
+
+        Mockito.verify(evicted).close();
+        assertThat(reacquired.get().client(), not(sameInstance(evicted)));
+
+        reacquired.get().close();
+    }
+
+    @Test
+    void shouldBuildClientAgainAfterFailure() {
+        String key = IdUtils.create();
+        CosmosAsyncClient client = Mockito.mock(CosmosAsyncClient.class);
+
+        assertThrows(IllegalStateException.class, () -> CosmosClientCache.acquire(key, Duration.ofMinutes(10), () ->
+        {
+            throw new IllegalStateException("unreachable account");
+        }));
+
+        CosmosClientCache.Lease lease = CosmosClientCache.acquire(key, Duration.ofMinutes(10), () -> client);
+
+        assertThat(lease.client(), sameInstance(client));
+
+        lease.close();
+    }
+
+    @Test
+    void shouldCloseUnsharedClientWithLease() {
+        CosmosAsyncClient client = Mockito.mock(CosmosAsyncClient.class);
+
+        CosmosClientCache.unshared(client).close();
+
+        Mockito.verify(client).close();
+    }
+}
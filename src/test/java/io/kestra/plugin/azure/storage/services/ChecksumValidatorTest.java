@@ -4,19 +4,33 @@ import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import jakarta.inject.Inject;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HexFormat;
+import java.util.Random;
+import java.util.zip.CRC32C;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -35,8 +49,12 @@ class ChecksumValidatorTest {
         return tmp.toFile();
     }
 
-    private byte[] md5(byte[] content) throws Exception {
-        return MessageDigest.getInstance("MD5").digest(content);
+    private byte[] md5(byte[] content) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     @Test
@@ -175,4 +193,202 @@ class ChecksumValidatorTest {
         assertThrows(IllegalArgumentException.class,
             () -> ChecksumValidator.verify(ctx(), file, null, opts, "test"));
     }
+
+    @Test
+    void copyComputesDigestInline() throws Exception {
+        byte[] content = "hello streamed world".getBytes();
+        File file = Files.createTempFile("checksum-test-", ".bin").toFile();
+        ChecksumValidator.Options opts = ChecksumValidator.Options.builder()
+            .validateAgainstServer(true)
+            .algorithm(ChecksumValidator.Algorithm.MD5)
+            .build();
+
+        byte[] digest = ChecksumValidator.copy(new ByteArrayInputStream(content), file, opts);
+
+        assertThat(Files.readAllBytes(file.toPath()), is(content));
+        assertThat(digest, is(md5(content)));
+        ChecksumValidator.verifyDigest(ctx(), digest, md5(content), opts, "test");
+    }
+
+    @Test
+    void copyWithoutValidationReturnsNoDigest() throws Exception {
+        File file = Files.createTempFile("checksum-test-", ".bin").toFile();
+
+        assertThat(ChecksumValidator.copy(new ByteArrayInputStream("hello".getBytes()), file, null), nullValue());
+    }
+
+    @Test
+    void crc32cExpectedMatchOnLargeFile() throws Exception {
+        byte[] content = new byte[40 * 1024 * 1024 + 17];
+        new Random(1).nextBytes(content);
+        File file = writeTempFile(content);
+
+        CRC32C crc = new CRC32C();
+        crc.update(content);
+        String hex = String.format("%08x", crc.getValue());
+
+        ChecksumValidator.Options opts = ChecksumValidator.Options.builder()
+            .expected(hex)
+            .algorithm(ChecksumValidator.Algorithm.CRC32C)
+            .build();
+        ChecksumValidator.verify(ctx(), file, null, opts, "test");
+    }
+
+    @Test
+    void crc64ExpectedMatch() throws Exception {
+        File file = writeTempFile("123456789".getBytes());
+        // Azure encodes CRC64 little-endian
+        String b64 = Base64.getEncoder().encodeToString(
+            ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0xAE8B14860A799888L).array()
+        );
+
+        ChecksumValidator.Options opts = ChecksumValidator.Options.builder()
+            .expected(b64)
+            .algorithm(ChecksumValidator.Algorithm.CRC64)
+            .build();
+        ChecksumValidator.verify(ctx(), file, null, opts, "test");
+    }
+
+    @Test
+    void perBlockMatch() throws Exception {
+        byte[] content = new byte[ChecksumValidator.SERVICE_BLOCK_SIZE * 2 + 123];
+        new Random(2).nextBytes(content);
+        File file = Files.createTempFile("checksum-test-", ".bin").toFile();
+
+        CRC32C crc = new CRC32C();
+        crc.update(content);
+
+        ChecksumValidator.Options opts = ChecksumValidator.Options.builder()
+            .validateAgainstServer(true)
+            .perBlock(true)
+            .expected(String.format("%08x", crc.getValue()))
+            .algorithm(ChecksumValidator.Algorithm.CRC32C)
+            .build();
+
+        ChecksumValidator.copyPerBlock(ctx(), content.length, (offset, length) -> {
+            byte[] range = Arrays.copyOfRange(content, (int) offset, (int) (offset + length));
+            return Pair.of(range, md5(range));
+        }, file, opts, "test");
+
+        assertThat(Files.readAllBytes(file.toPath()), is(content));
+    }
+
+    @Test
+    void perBlockMismatch() throws Exception {
+        byte[] content = new byte[ChecksumValidator.SERVICE_BLOCK_SIZE + 10];
+        new Random(3).nextBytes(content);
+        File file = Files.createTempFile("checksum-test-", ".bin").toFile();
+
+        ChecksumValidator.Options opts = ChecksumValidator.Options.builder()
+            .validateAgainstServer(true)
+            .perBlock(true)
+            .build();
+
+        IOException e = assertThrows(IOException.class, () -> ChecksumValidator.copyPerBlock(ctx(), content.length, (offset, length) -> {
+            byte[] range = Arrays.copyOfRange(content, (int) offset, (int) (offset + length));
+            byte[] serviceMd5 = offset == 0 ? md5(range) : md5("corrupted".getBytes());
+            return Pair.of(range, serviceMd5);
+        }, file, opts, "myblob"));
+        assertThat(e.getMessage(), containsString("mismatch"));
+    }
+
+    @Test
+    void perBlockWithMissingRangesIsOnlyPartial() throws Exception {
+        byte[] content = new byte[ChecksumValidator.SERVICE_BLOCK_SIZE * 2 + 10];
+        new Random(4).nextBytes(content);
+        File file = Files.createTempFile("checksum-test-", ".bin").toFile();
+        RunContext runContext = ctx();
+
+        ChecksumValidator.Options opts = ChecksumValidator.Options.builder()
+            .validateAgainstServer(true)
+            .perBlock(true)
+            .build();
+
+        ChecksumValidator.copyPerBlock(runContext, content.length, (offset, length) -> {
+            byte[] range = Arrays.copyOfRange(content, (int) offset, (int) (offset + length));
+            return Pair.of(range, offset == 0 ? md5(range) : null);
+        }, file, opts, "myblob");
+
+        assertThat(Files.readAllBytes(file.toPath()), is(content));
+        assertThat(
+            runContext.metrics().stream().filter(metric -> metric.getName().equals("checksum.blocks.unverified")).findFirst().orElseThrow().getValue(),
+            is(2D)
+        );
+        assertThat(
+            runContext.metrics().stream().filter(metric -> metric.getName().equals("checksum.validated")).findFirst().orElseThrow().getTags().get("result"),
+            is("partial")
+        );
+    }
+
+    /**
+     * Compares writing then re-reading a 2 GB file with the single-pass copy, run with {@code -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkInlineDigest() throws Exception {
+        long size = 2L * 1024 * 1024 * 1024;
+        ChecksumValidator.Options opts = ChecksumValidator.Options.builder()
+            .validateAgainstServer(true)
+            .algorithm(ChecksumValidator.Algorithm.MD5)
+            .build();
+
+        File twoPass = Files.createTempFile("checksum-bench-", ".bin").toFile();
+        File singlePass = Files.createTempFile("checksum-bench-", ".bin").toFile();
+
+        try {
+            long start = System.nanoTime();
+            byte[] digest;
+            try (InputStream in = new ZeroInputStream(size)) {
+                digest = ChecksumValidator.copy(in, singlePass, opts);
+            }
+            ChecksumValidator.verifyDigest(ctx(), digest, digest, opts, "single-pass");
+            Duration singlePassDuration = Duration.ofNanos(System.nanoTime() - start);
+
+            start = System.nanoTime();
+            try (InputStream in = new ZeroInputStream(size)) {
+                ChecksumValidator.copy(in, twoPass, null);
+            }
+            ChecksumValidator.verify(ctx(), twoPass, digest, opts, "two-pass");
+            Duration twoPassDuration = Duration.ofNanos(System.nanoTime() - start);
+
+            assertThat(singlePass.length(), is(size));
+
+            LoggerFactory.getLogger(ChecksumValidatorTest.class).info(
+                "2 GB MD5 validation: write then re-read {} ms, single pass {} ms",
+                twoPassDuration.toMillis(),
+                singlePassDuration.toMillis()
+            );
+        } finally {
+            twoPass.delete();
+            singlePass.delete();
+        }
+    }
+
+    private static class ZeroInputStream extends InputStream {
+        private long remaining;
+
+        ZeroInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = (int) Math.min(len, remaining);
+            Arrays.fill(b, off, off + n, (byte) 0);
+            remaining -= n;
+            return n;
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package io.kestra.plugin.azure.storage.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.CRC32C;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class Crc64Test {
+    @Test
+    void checkValue() {
+        byte[] data = "123456789".getBytes(StandardCharsets.US_ASCII);
+        Crc64 crc = new Crc64();
+        crc.update(data, 0, data.length);
+
+        assertThat(crc.getValue(), is(0xAE8B14860A799888L));
+    }
+
+    @Test
+    void byteAndArrayUpdatesMatch() {
+        byte[] data = random(10_007);
+
+        Crc64 bulk = new Crc64();
+        bulk.update(data, 0, data.length);
+
+        Crc64 single = new Crc64();
+        for (byte b : data) {
+            single.update(b);
+        }
+
+        assertThat(single.getValue(), is(bulk.getValue()));
+    }
+
+    @Test
+    void combineCrc64() {
+        byte[] data = random(1_000_003);
+        int split = 400_001;
+
+        Crc64 full = new Crc64();
+        full.update(data, 0, data.length);
+        Crc64 first = new Crc64();
+        first.update(data, 0, split);
+        Crc64 second = new Crc64();
+        second.update(data, split, data.length - split);
+
+        assertThat(CrcCombiner.combine(first.getValue(), second.getValue(), data.length - split, Crc64.POLY, 64), is(full.getValue()));
+    }
+
+    @Test
+    void combineCrc32c() {
+        byte[] data = random(100_000);
+        int split = 7;
+
+        CRC32C full = new CRC32C();
+        full.update(data);
+        CRC32C first = new CRC32C();
+        first.update(data, 0, split);
+        CRC32C second = new CRC32C();
+        second.update(data, split, data.length - split);
+
+        assertThat(CrcCombiner.combine(first.getValue(), second.getValue(), data.length - split, 0x82F63B78L, 32), is(full.getValue()));
+    }
+
+    private static byte[] random(int size) {
+        byte[] data = new byte[size];
+        new Random(42).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,42 @@
+package io.kestra.plugin.azure.storage.services;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DatePartitionsTest {
+    @Test
+    void partitions() {
+        Instant since = Instant.parse("2024-03-01T22:30:00Z");
+        Instant until = Instant.parse("2024-03-02T01:10:00Z");
+
+        assertThat(
+            DatePartitions.partitions("in/", "yyyy/MM/dd/", since, until),
+            contains("in/2024/03/01/", "in/2024/03/02/")
+        );
+        assertThat(
+            DatePartitions.partitions("in/", "yyyy/MM/dd/HH/", since, until),
+            contains("in/2024/03/01/22/", "in/2024/03/01/23/", "in/2024/03/02/00/", "in/2024/03/02/01/")
+        );
+        assertThat(
+            DatePartitions.partitions("in/", "yyyy/MM/dd/HH/mm/", Instant.parse("2024-03-01T23:58:30Z"), Instant.parse("2024-03-02T00:01:10Z")),
+            contains("in/2024/03/01/23/58/", "in/2024/03/01/23/59/", "in/2024/03/02/00/00/", "in/2024/03/02/00/01/")
+        );
+        assertThat(
+            DatePartitions.partitions("in/", "yyyy-MM/", Instant.parse("2024-01-31T10:00:00Z"), Instant.parse("2024-03-01T00:00:00Z")),
+            contains("in/2024-01/", "in/2024-02/", "in/2024-03/")
+        );
+    }
+
+    @Test
+    void partitionStep() {
+        assertThrows(IllegalArgumentException.class, () -> DatePartitions.partitionStep("yyyy/MM/dd/HH/mm/ss/"));
+        assertThat(DatePartitions.partitionStep("'data'/yyyy/MM/dd/"), is(ChronoUnit.DAYS));
+    }
+}
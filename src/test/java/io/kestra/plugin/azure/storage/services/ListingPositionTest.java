@@ -0,0 +1,33 @@
+package io.kestra.plugin.azure.storage.services;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class ListingPositionTest {
+    @Test
+    void serviceTokenStartsItsPage() {
+        ListingPosition position = ListingPosition.decode("2!96!MDAwMDM2IWZvbyE-");
+
+        assertThat(position.pageToken(), is("2!96!MDAwMDM2IWZvbyE-"));
+        assertThat(position.offset(), is(0));
+        assertThat(position.encode(), is("2!96!MDAwMDM2IWZvbyE-"));
+    }
+
+    @Test
+    void blankTokenIsFirstPage() {
+        assertThat(ListingPosition.decode("").pageToken(), is(nullValue()));
+        assertThat(ListingPosition.decode(null).offset(), is(0));
+    }
+
+    @Test
+    void offsetRoundTrips() {
+        ListingPosition inPage = ListingPosition.decode(new ListingPosition("2!96!abc:def", 1234).encode());
+        ListingPosition inFirstPage = ListingPosition.decode(new ListingPosition(null, 12).encode());
+
+        assertThat(inPage, is(new ListingPosition("2!96!abc:def", 1234)));
+        assertThat(inFirstPage, is(new ListingPosition(null, 12)));
+    }
+}